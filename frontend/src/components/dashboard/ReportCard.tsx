@@ -34,7 +34,8 @@ export function ReportCard({ report, showActions = false, onViewDetails, onUpdat
         </div>
         {report.imageUrl && (
           <img
-            src={report.imageUrl}
+            src={report.thumbnailUrl ?? report.imageUrl}
+            loading="lazy"
             alt={report.title}
             className="w-16 h-16 sm:w-20 sm:h-20 rounded-lg object-cover flex-shrink-0"
           />
@@ -49,6 +50,13 @@ export function ReportCard({ report, showActions = false, onViewDetails, onUpdat
         <div className="flex items-center gap-1.5">
           <MapPin className="w-4 h-4" />
           <span className="truncate max-w-[150px]">{report.location.address}</span>
+          {report.distanceMeters !== undefined && (
+            <span className="whitespace-nowrap">
+              · {report.distanceMeters < 1000
+                ? `${Math.round(report.distanceMeters)} m`
+                : `${(report.distanceMeters / 1000).toFixed(1)} km`}
+            </span>
+          )}
         </div>
         <div className="flex items-center gap-1.5">
           <Calendar className="w-4 h-4" />
@@ -58,6 +58,12 @@ export async function authGet(path: string) {
   return authFetch(path, { method: "GET" });
 }
 
+// One page of a keyset-paged listing ({ items, nextCursor })
+export async function authGetPage(path: string, after: number | null = null, size = 50) {
+  const sep = path.includes("?") ? "&" : "?";
+  return authGet(path + `${sep}size=${size}` + (after != null ? `&after=${after}` : ""));
+}
+
 export async function authPut(path: string, body?: any) {
   return authFetch(path, { method: "PUT", body: body ? JSON.stringify(body) : undefined });
 }
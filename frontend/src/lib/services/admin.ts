@@ -1,16 +1,50 @@
-import { authGet } from "../api";
+import { authGet, authGetPage } from "../api";
+import type { CursorPage, DashboardStats, HotSpot, Report } from "@/types";
 import * as ReportsService from "./reports";
 
-export async function getAllReports() {
-  const res = await authGet('/admin/reports');
+// One page of reports, oldest id first; pass nextCursor back as "after"
+export async function getReportsPage(after: number | null = null, size = 50): Promise<CursorPage<Report>> {
+  const page = await authGetPage('/admin/reports', after, size);
   // remap DTOs to frontend Report shape
-  return (res || []).map((r: any) => ReportsService.mapDtoToReport(r));
+  return {
+    items: (page?.items || []).map((r: any) => ReportsService.mapDtoToReport(r)),
+    nextCursor: page?.nextCursor ?? null,
+  };
 }
 
-export async function getAllUsers() {
-  return authGet('/admin/users');
+export async function getUsersPage(after: number | null = null, size = 50): Promise<CursorPage<any>> {
+  return authGetPage('/admin/users', after, size);
 }
 
-export async function getAllVolunteers() {
-  return authGet('/admin/volunteers');
+export async function getVolunteersPage(after: number | null = null, size = 50): Promise<CursorPage<any>> {
+  return authGetPage('/admin/volunteers', after, size);
+}
+
+// Report counts per geohash cell (precision 1-7) for the visible map area
+export async function getHotSpots(
+  bounds: { minLat: number; maxLat: number; minLng: number; maxLng: number },
+  precision = 5,
+  filter: { status?: string; category?: string } = {}
+): Promise<HotSpot[]> {
+  const params = new URLSearchParams({
+    precision: String(precision),
+    minLat: String(bounds.minLat),
+    maxLat: String(bounds.maxLat),
+    minLng: String(bounds.minLng),
+    maxLng: String(bounds.maxLng),
+  });
+  if (filter.status) params.set('status', filter.status);
+  if (filter.category) params.set('category', filter.category);
+  return authGet(`/admin/hotspots?${params}`);
+}
+
+// Created / assigned / resolved counts and mean times from the hourly or daily rollups
+export async function getStats(
+  filter: { granularity?: 'HOUR' | 'DAY'; from?: string; to?: string; category?: string; area?: string } = {}
+): Promise<DashboardStats> {
+  const params = new URLSearchParams();
+  Object.entries(filter).forEach(([key, value]) => {
+    if (value) params.set(key, value);
+  });
+  return authGet(`/admin/stats?${params}`);
 }
@@ -1,4 +1,4 @@
-import { authGet, authPost, authPut, uploadImage, getApiBase } from "../api";
+import { authGet, authGetPage, authPost, authPut, uploadImage, getApiBase } from "../api";
 
 // report.ts
 export interface ReportFormData {
@@ -88,7 +88,12 @@ function mapCategoryBack(cat: string) {
 
 export function mapDtoToReport(dto: any) {
   const status = (dto.status || '').toString().toLowerCase().replace(/_/g, '-');
-  const img = dto.imagepath ? `${getApiBase().replace(/\/$/, '')}/${dto.imagepath}` : undefined;
+  const base = getApiBase().replace(/\/$/, '');
+  const img = dto.imagepath ? `${base}/${dto.imagepath}` : undefined;
+  // content-addressed uploads have a small thumbnail next to the original
+  const thumb = dto.imagepath?.startsWith('reports/image/')
+    ? `${base}/${dto.imagepath.replace('reports/image/', 'reports/image/thumb/')}`
+    : img;
   return {
     id: dto.id ? String(dto.id) : undefined,
     title: dto.description ? (dto.description.split('\n')[0] ?? dto.description) : 'Report',
@@ -101,6 +106,8 @@ export function mapDtoToReport(dto: any) {
       lng: dto.longitude ?? 0,
     },
     imageUrl: img,
+    thumbnailUrl: thumb,
+    distanceMeters: dto.distanceMeters ?? undefined,
     citizenId: dto.citizenId ? String(dto.citizenId) : undefined,
     volunteerId: dto.volunteerId ? String(dto.volunteerId) : undefined,
     createdAt: dto.creationDate ? new Date(dto.creationDate) : new Date(),
@@ -108,8 +115,10 @@ export function mapDtoToReport(dto: any) {
   };
 }
 
-export async function getNearbyReports(volunteerId: number) {
-  return authGet(`/reports/nearby?volunteerId=${volunteerId}`);
+// nearest open reports first; the backend widens its search up to maxRadiusKm
+export async function getNearbyReports(volunteerId: number, limit = 20, maxRadiusKm?: number) {
+  const radius = maxRadiusKm !== undefined ? `&maxRadius=${maxRadiusKm}` : '';
+  return authGet(`/reports/nearby?volunteerId=${volunteerId}&limit=${limit}${radius}`);
 }
 
 export async function claimReport(reportId: number, volunteerId: number) {
@@ -128,6 +137,7 @@ export async function getReportById(reportId: number) {
   return authGet(`/reports/${reportId}`);
 }
 
-export async function getAllReports() {
-  return authGet(`/reports/all`);
+// One keyset page of every report (admin); pass nextCursor back as "after"
+export async function getAllReportsPage(after: number | null = null, size = 50) {
+  return authGetPage(`/reports/all`, after, size);
 }
@@ -26,14 +26,16 @@ import {
   TableHeader,
   TableRow,
 } from '@/components/ui/table';
-import { FileText, Users, CheckCircle2, Clock, UserPlus, Eye } from 'lucide-react';
+import { FileText, Users, CheckCircle2, Clock, UserPlus, Eye, ChevronLeft, ChevronRight } from 'lucide-react';
 import { Report } from '@/types';
 import { useToast } from '@/hooks/use-toast';
 import { useAuth } from '@/hooks/useAuth';
 import { MapPreview } from '@/components/MapPreview';
-import { useQuery } from '@tanstack/react-query';
+import { keepPreviousData, useQuery } from '@tanstack/react-query';
 import * as AdminService from '@/lib/services/admin';
 
+const PAGE_SIZE = 50;
+
 const volunteers = [
   { id: '2', name: 'Sarah Volunteer' },
   { id: '3', name: 'Mike Helper' },
@@ -48,7 +50,19 @@ export default function AdminDashboard() {
   const { toast } = useToast();
   const { userName } = useAuth();
 
-  const { data: allReports = [], isLoading } = useQuery({ queryKey: ['adminReports'], queryFn: () => AdminService.getAllReports() });
+  // keyset paging: the cursors of the pages visited so far, the last one is shown
+  const [cursors, setCursors] = useState<(number | null)[]>([null]);
+  const after = cursors[cursors.length - 1];
+  const { data: page, isFetching } = useQuery({
+    queryKey: ['adminReports', after],
+    queryFn: () => AdminService.getReportsPage(after, PAGE_SIZE),
+    placeholderData: keepPreviousData,
+  });
+  const reports = page?.items ?? [];
+  const nextCursor = page?.nextCursor ?? null;
+  // stat cards read the daily rollups (last 30 days), not the report list; open is a live count
+  const { data: stats } = useQuery({ queryKey: ['adminStats'], queryFn: () => AdminService.getStats() });
+  const totals = stats?.totals;
 
   const formatDate = (date: Date) => {
     return new Intl.DateTimeFormat('en-US', {
@@ -92,27 +106,25 @@ export default function AdminDashboard() {
         {/* Stats */}
         <div className="grid sm:grid-cols-2 lg:grid-cols-4 gap-4">
           <StatsCard
-            title="Total Reports"
-            value={allReports.length}
+            title="Reports (30 days)"
+            value={totals?.created ?? 0}
             icon={<FileText className="w-5 h-5" />}
             variant="primary"
-            trend={{ value: 12, isPositive: true }}
           />
           <StatsCard
-            title="Active Volunteers"
-            value={Array.from(new Set(allReports.map((r: any) => r.volunteerId))).filter(Boolean).length}
+            title="Avg. Time to Claim"
+            value={totals?.meanClaimMinutes != null ? `${Math.round(totals.meanClaimMinutes)} min` : '-'}
             icon={<Users className="w-5 h-5" />}
           />
           <StatsCard
             title="Resolved Issues"
-            value={allReports.filter((r: any) => r.status === 'completed').length}
+            value={totals?.resolved ?? 0}
             icon={<CheckCircle2 className="w-5 h-5" />}
             variant="success"
-            trend={{ value: 8, isPositive: true }}
           />
           <StatsCard
-            title="Pending Reports"
-            value={allReports.filter((r: any) => r.status !== 'completed').length}
+            title="Open Reports"
+            value={stats?.open ?? 0}
             icon={<Clock className="w-5 h-5" />}
             variant="warning"
           />
@@ -151,7 +163,7 @@ export default function AdminDashboard() {
                 </TableRow>
               </TableHeader>
               <TableBody>
-                {allReports.map((report: any) => (
+                {reports.map((report: any) => (
                   <TableRow key={report.id}>
                     <TableCell>
                       <div className="font-medium text-foreground">{report.title}</div>
@@ -196,6 +208,30 @@ export default function AdminDashboard() {
               </TableBody>
             </Table>
           </div>
+
+          <div className="p-4 border-t border-border flex items-center justify-between">
+            <p className="text-sm text-muted-foreground">Page {cursors.length}</p>
+            <div className="flex gap-2">
+              <Button
+                variant="outline"
+                size="sm"
+                disabled={cursors.length === 1 || isFetching}
+                onClick={() => setCursors((c) => c.slice(0, -1))}
+              >
+                <ChevronLeft className="w-4 h-4" />
+                Previous
+              </Button>
+              <Button
+                variant="outline"
+                size="sm"
+                disabled={nextCursor == null || isFetching}
+                onClick={() => setCursors((c) => [...c, nextCursor])}
+              >
+                Next
+                <ChevronRight className="w-4 h-4" />
+              </Button>
+            </div>
+          </div>
         </div>
       </div>
 
@@ -32,6 +32,8 @@ export interface Report {
     lng: number;
   };
   imageUrl?: string;
+  thumbnailUrl?: string;
+  distanceMeters?: number;
   citizenId: string;
   citizenName: string;
   volunteerId?: string;
@@ -55,3 +57,39 @@ export interface AnalyticsData {
   resolvedIssues: number;
   pendingReports: number;
 }
+
+// One geohash cell of the admin heat map (counts keyed by backend enum names)
+export interface HotSpot {
+  geohash: string;
+  latitude: number;
+  longitude: number;
+  count: number;
+  byCategory: Record<string, number>;
+  byStatus: Record<string, number>;
+}
+
+export interface RollupRow {
+  bucketStart: string | null;
+  category: string | null;
+  created: number;
+  assigned: number;
+  resolved: number;
+  meanClaimMinutes: number | null;
+  meanResolveMinutes: number | null;
+}
+
+export interface DashboardStats {
+  granularity: 'HOUR' | 'DAY';
+  from: string;
+  to: string;
+  rows: RollupRow[];
+  totals: RollupRow;
+  // reports not yet completed right now, not limited to the window
+  open: number;
+}
+
+// One page of a keyset-paged listing; pass nextCursor back as "after", null on the last page
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: number | null;
+}
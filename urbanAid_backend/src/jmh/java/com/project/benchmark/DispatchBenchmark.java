@@ -0,0 +1,118 @@
+package com.project.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+
+import com.project.entities.Category;
+import com.project.entities.Vtype;
+import com.project.repository.VolunteerRepository;
+import com.project.service.VolunteerMatcher;
+import com.project.util.DispatchPlanner;
+import com.project.util.VolunteerGeoIndex;
+
+/*
+ * One auto-assignment plan: 10k waiting reports against 50k volunteers over
+ * a ~55 km square, capacity 3 each. Capacity lookup is in memory, so this is
+ * the planning cost alone (candidate search, edge sort, greedy pass).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatchBenchmark {
+
+    private static final double CENTER_LAT = 18.5204;
+    private static final double CENTER_LNG = 73.8567;
+    private static final double SPREAD = 0.25;
+
+    @Param({ "10000" })
+    public int reports;
+
+    @Param({ "50000" })
+    public int volunteers;
+
+    private VolunteerGeoIndex index;
+    private List<DispatchPlanner.Job> jobs;
+
+    @Setup
+    public void setup() {
+        SplittableRandom rnd = new SplittableRandom(11);
+        List<VolunteerRepository.Location> locations = new ArrayList<>(volunteers);
+        for (long id = 1; id <= volunteers; id++) {
+            locations.add(location(id,
+                    CENTER_LAT + rnd.nextDouble(-SPREAD, SPREAD),
+                    CENTER_LNG + rnd.nextDouble(-SPREAD, SPREAD),
+                    rnd.nextInt(4) != 0,
+                    Vtype.values()[(int) (id % Vtype.values().length)]));
+        }
+        index = new VolunteerGeoIndex(pagedRepository(locations));
+        index.rebuild();
+
+        jobs = new ArrayList<>(reports);
+        for (long id = 1; id <= reports; id++) {
+            Category category = Category.values()[(int) (id % Category.values().length)];
+            jobs.add(new DispatchPlanner.Job(id,
+                    CENTER_LAT + rnd.nextDouble(-SPREAD, SPREAD),
+                    CENTER_LNG + rnd.nextDouble(-SPREAD, SPREAD),
+                    VolunteerMatcher.typesFor(category)));
+        }
+    }
+
+    @Benchmark
+    public List<DispatchPlanner.Assignment> plan() {
+        return DispatchPlanner.plan(jobs, index, 8, 10, DispatchBenchmark::fullCapacity);
+    }
+
+    private static Map<Long, Integer> fullCapacity(Collection<Long> ids) {
+        Map<Long, Integer> free = new HashMap<>();
+        ids.forEach(id -> free.put(id, 3));
+        return free;
+    }
+
+    // Only the paged load the index rebuild uses; locations are in id order
+    private static VolunteerRepository pagedRepository(List<VolunteerRepository.Location> locations) {
+        return (VolunteerRepository) Proxy.newProxyInstance(
+                VolunteerRepository.class.getClassLoader(),
+                new Class<?>[] { VolunteerRepository.class },
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findLocationsAfter")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    int from = (int) Math.min((Long) args[0], locations.size());
+                    int to = Math.min(from + ((Pageable) args[1]).getPageSize(), locations.size());
+                    return locations.subList(from, to);
+                });
+    }
+
+    private static VolunteerRepository.Location location(long id, double lat, double lng,
+                                                         boolean available, Vtype vtype) {
+        return new VolunteerRepository.Location() {
+            public Long getId() { return id; }
+            public Double getLatitude() { return lat; }
+            public Double getLongitude() { return lng; }
+            public Boolean getAvailability() { return available; }
+            public Vtype getVtype() { return vtype; }
+        };
+    }
+}
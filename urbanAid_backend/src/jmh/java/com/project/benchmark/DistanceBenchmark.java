@@ -0,0 +1,109 @@
+package com.project.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.project.util.DistanceKernel;
+import com.project.util.DistanceUtil;
+
+/*
+ * Single haversine call, plus a batch over varying points so the JIT can't
+ * constant-fold the inputs; against DistanceKernel's chord test over the same
+ * points laid out as unit-vector arrays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistanceBenchmark {
+
+    private static final int BATCH = 1024;
+
+    private final DistanceUtil distanceUtil = new DistanceUtil();
+
+    private double originLat = 18.5204;
+    private double originLng = 73.8567;
+    private double[] lats;
+    private double[] lngs;
+    private double[] xs;
+    private double[] ys;
+    private double[] zs;
+    private final int[] hits = new int[BATCH];
+
+    @Setup
+    public void setup() {
+        SplittableRandom rnd = new SplittableRandom(42);
+        lats = new double[BATCH];
+        lngs = new double[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            lats[i] = originLat + rnd.nextDouble(-0.25, 0.25);
+            lngs[i] = originLng + rnd.nextDouble(-0.25, 0.25);
+        }
+        xs = new double[BATCH];
+        ys = new double[BATCH];
+        zs = new double[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            double[] u = DistanceKernel.unit(lats[i], lngs[i]);
+            xs[i] = u[0];
+            ys[i] = u[1];
+            zs[i] = u[2];
+        }
+    }
+
+    @Benchmark
+    public double single() {
+        return distanceUtil.calculate(originLat, originLng, lats[0], lngs[0]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void batch(Blackhole bh) {
+        for (int i = 0; i < BATCH; i++) {
+            bh.consume(distanceUtil.calculate(originLat, originLng, lats[i], lngs[i]));
+        }
+    }
+
+    // haversine used as a 5 km filter, the way the index used to
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int haversineFilter() {
+        int n = 0;
+        for (int i = 0; i < BATCH; i++) {
+            if (distanceUtil.calculate(originLat, originLng, lats[i], lngs[i]) <= 5.0) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    // includes building the kernel, as every search does
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int kernelFilter() {
+        return new DistanceKernel(originLat, originLng, 5000).filter(xs, ys, zs, BATCH, hits);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void kernelMeters(Blackhole bh) {
+        DistanceKernel kernel = new DistanceKernel(originLat, originLng, 5000);
+        for (int i = 0; i < BATCH; i++) {
+            bh.consume(kernel.metersTo(xs[i], ys[i], zs[i]));
+        }
+    }
+}
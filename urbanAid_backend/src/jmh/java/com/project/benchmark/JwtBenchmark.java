@@ -0,0 +1,61 @@
+package com.project.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.project.security.JwtUtils;
+import com.project.security.UserPrincipal;
+
+import io.jsonwebtoken.Claims;
+
+/*
+ * Per-request auth cost: signing a token at login and verifying it on every
+ * authenticated call (the uncached path of the JWT filter).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private UserPrincipal principal;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", "855e70adbe1f5325e7cc3d173f010488");
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationTime", 7_200_000L);
+        jwtUtils.init();
+
+        principal = new UserPrincipal(7L, "citizen@example.com", "",
+                List.of(new SimpleGrantedAuthority("ROLE_CITIZEN")));
+        token = jwtUtils.generateToken(principal);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken(principal);
+    }
+
+    @Benchmark
+    public Claims validateToken() {
+        return jwtUtils.validateToken(token);
+    }
+}
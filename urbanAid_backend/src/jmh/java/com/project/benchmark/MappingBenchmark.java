@@ -0,0 +1,123 @@
+package com.project.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.Conditions;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.project.dto.ReportDTO;
+import com.project.dto.UserDTO;
+import com.project.dto.VolunteerDTO;
+import com.project.entities.Category;
+import com.project.entities.Report;
+import com.project.entities.Status;
+import com.project.entities.User;
+import com.project.entities.UserType;
+import com.project.entities.Volunteer;
+import com.project.entities.Vtype;
+import com.project.mapper.ReportMapper;
+import com.project.mapper.UserMapper;
+import com.project.mapper.VolunteerMapper;
+
+/*
+ * Entity -> DTO mapping: ModelMapper (configured exactly like the former
+ * application bean) against the hand-written mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private final ReportMapper reportMapper = new ReportMapper();
+    private final UserMapper userMapper = new UserMapper();
+    private final VolunteerMapper volunteerMapper = new VolunteerMapper();
+
+    private Report report;
+    private User user;
+    private Volunteer volunteer;
+
+    @Setup
+    public void setup() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setPropertyCondition(Conditions.isNotNull())
+                .setMatchingStrategy(MatchingStrategies.STRICT);
+
+        user = new User();
+        user.setId(7L);
+        user.setEmail("citizen@example.com");
+        user.setMobile("9876543210");
+        user.setName("Citizen");
+        user.setDob(new Date());
+        user.setPassword("hash");
+        user.setUserType(UserType.ROLE_CITIZEN);
+
+        volunteer = new Volunteer();
+        volunteer.setId(11L);
+        volunteer.setVtype(Vtype.GENERAL_HELP);
+        volunteer.setArea("Shivajinagar");
+        volunteer.setLatitude(18.53);
+        volunteer.setLongitude(73.85);
+        volunteer.setAvailability(true);
+        volunteer.setSkill("first aid");
+        volunteer.setMyuser(user);
+
+        report = new Report();
+        report.setId(42L);
+        report.setDescription("Broken streetlight near the bus stop");
+        report.setLocation("FC Road");
+        report.setLatitude(18.52);
+        report.setLongitude(73.84);
+        report.setImagepath("");
+        report.setStatus(Status.ASSIGNED);
+        report.setCategory(Category.ELECTRICITY);
+        report.setCitizen(user);
+        report.setVolunteer(volunteer);
+    }
+
+    @Benchmark
+    public ReportDTO reportModelMapper() {
+        return modelMapper.map(report, ReportDTO.class);
+    }
+
+    @Benchmark
+    public ReportDTO reportHandWritten() {
+        return reportMapper.toDto(report);
+    }
+
+    @Benchmark
+    public VolunteerDTO volunteerModelMapper() {
+        return modelMapper.map(volunteer, VolunteerDTO.class);
+    }
+
+    @Benchmark
+    public VolunteerDTO volunteerHandWritten() {
+        return volunteerMapper.toDto(volunteer);
+    }
+
+    @Benchmark
+    public UserDTO userModelMapper() {
+        return modelMapper.map(user, UserDTO.class);
+    }
+
+    @Benchmark
+    public UserDTO userHandWritten() {
+        return userMapper.toDto(user);
+    }
+}
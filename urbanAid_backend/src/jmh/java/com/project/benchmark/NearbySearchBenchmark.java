@@ -0,0 +1,143 @@
+package com.project.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.project.entities.Volunteer;
+import com.project.entities.Vtype;
+import com.project.mapper.UserMapper;
+import com.project.mapper.VolunteerMapper;
+import com.project.repository.VolunteerRepository;
+import com.project.service.VolunteerServiceImpl;
+import com.project.util.DistanceUtil;
+import com.project.util.VolunteerGeoIndex;
+
+/*
+ * VolunteerServiceImpl.findNearby over 1k/10k/100k volunteers spread across
+ * a ~55 km square, against the old approach of a haversine over every row.
+ * The repository is an in-memory stand-in, so this measures the search itself
+ * and not MySQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NearbySearchBenchmark {
+
+    private static final double CENTER_LAT = 18.5204;
+    private static final double CENTER_LNG = 73.8567;
+    private static final double SPREAD = 0.25;
+    private static final int QUERIES = 256;
+
+    @Param({ "1000", "10000", "100000" })
+    public int volunteers;
+
+    private final DistanceUtil distanceUtil = new DistanceUtil();
+    private List<Volunteer> all;
+    private VolunteerServiceImpl service;
+
+    private double[] queryLat;
+    private double[] queryLng;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SplittableRandom rnd = new SplittableRandom(7);
+        all = new ArrayList<>(volunteers);
+        Map<Long, Volunteer> byId = new HashMap<>();
+        for (long id = 1; id <= volunteers; id++) {
+            Volunteer v = new Volunteer();
+            v.setId(id);
+            v.setVtype(Vtype.values()[(int) (id % Vtype.values().length)]);
+            v.setLatitude(CENTER_LAT + rnd.nextDouble(-SPREAD, SPREAD));
+            v.setLongitude(CENTER_LNG + rnd.nextDouble(-SPREAD, SPREAD));
+            v.setAvailability(rnd.nextInt(4) != 0);
+            all.add(v);
+            byId.put(id, v);
+        }
+
+        VolunteerRepository repo = inMemoryRepository(byId);
+        VolunteerGeoIndex index = new VolunteerGeoIndex(repo);
+        index.rebuild();
+        service = new VolunteerServiceImpl(index, repo, new VolunteerMapper(),
+                new UserMapper(), new BCryptPasswordEncoder());
+
+        queryLat = new double[QUERIES];
+        queryLng = new double[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryLat[i] = CENTER_LAT + rnd.nextDouble(-SPREAD, SPREAD);
+            queryLng[i] = CENTER_LNG + rnd.nextDouble(-SPREAD, SPREAD);
+        }
+    }
+
+    @Benchmark
+    public List<Volunteer> findNearby() {
+        int i = next++ & (QUERIES - 1);
+        return service.findNearby(queryLat[i], queryLng[i]);
+    }
+
+    @Benchmark
+    public List<Volunteer> fullScan() {
+        int i = next++ & (QUERIES - 1);
+        List<Volunteer> result = new ArrayList<>();
+        for (Volunteer v : all) {
+            if (distanceUtil.calculate(queryLat[i], queryLng[i], v.getLatitude(), v.getLongitude()) <= 5.0) {
+                result.add(v);
+            }
+        }
+        return result;
+    }
+
+    // Just the two queries findNearby and the index rebuild touch
+    @SuppressWarnings("unchecked")
+    private static VolunteerRepository inMemoryRepository(Map<Long, Volunteer> byId) {
+        return (VolunteerRepository) Proxy.newProxyInstance(
+                VolunteerRepository.class.getClassLoader(),
+                new Class<?>[] { VolunteerRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findLocationsAfter" -> byId.values().stream()
+                            .filter(v -> v.getId() > (Long) args[0])
+                            .sorted(Comparator.comparing(Volunteer::getId))
+                            .limit(((Pageable) args[1]).getPageSize())
+                            .map(NearbySearchBenchmark::location)
+                            .toList();
+                    case "findAllWithUserByIdIn" -> ((Collection<Long>) args[0]).stream()
+                            .map(byId::get)
+                            .toList();
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static VolunteerRepository.Location location(Volunteer v) {
+        return new VolunteerRepository.Location() {
+            public Long getId() { return v.getId(); }
+            public Double getLatitude() { return v.getLatitude(); }
+            public Double getLongitude() { return v.getLongitude(); }
+            public Boolean getAvailability() { return v.isAvailability(); }
+            public Vtype getVtype() { return v.getVtype(); }
+        };
+    }
+}
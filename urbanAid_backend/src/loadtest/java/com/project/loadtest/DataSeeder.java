@@ -0,0 +1,131 @@
+package com.project.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.entities.Category;
+import com.project.entities.Report;
+import com.project.entities.Status;
+import com.project.entities.User;
+import com.project.entities.UserType;
+import com.project.entities.Volunteer;
+import com.project.entities.Vtype;
+import com.project.repository.ReportRepository;
+import com.project.repository.UserRepository;
+import com.project.repository.VolunteerRepository;
+import com.project.util.VolunteerGeoIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Bulk-loads citizens, volunteers and reports straight through the
+ * repositories (the HTTP flow is what gets measured, not the seeding).
+ * Everything sits in a ~55 km square around Pune.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class DataSeeder {
+
+    static final String PASSWORD = "loadtest";
+    static final double CENTER_LAT = 18.5204;
+    static final double CENTER_LNG = 73.8567;
+    static final double SPREAD = 0.25;
+
+    private static final int CHUNK = 500;
+
+    private final UserRepository userRepo;
+    private final VolunteerRepository volunteerRepo;
+    private final ReportRepository reportRepo;
+    private final VolunteerGeoIndex geoIndex;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate tx;
+
+    // An available volunteer the driver can sign in as
+    record SeededVolunteer(String email, double latitude, double longitude) {
+    }
+
+    List<SeededVolunteer> seed(int citizens, int volunteers, int reports) {
+        SplittableRandom rnd = new SplittableRandom(2024);
+        // bcrypt once; every seeded account shares the password
+        String hash = passwordEncoder.encode(PASSWORD);
+
+        List<User> citizenUsers = new ArrayList<>(citizens);
+        for (int i = 0; i < citizens; i++) {
+            citizenUsers.add(user("citizen" + i + "@load.test", "6" + String.format("%09d", i),
+                    hash, UserType.ROLE_CITIZEN));
+        }
+        saveInChunks(citizenUsers, userRepo::saveAll);
+
+        List<Volunteer> vols = new ArrayList<>(volunteers);
+        List<SeededVolunteer> available = new ArrayList<>();
+        for (int i = 0; i < volunteers; i++) {
+            Volunteer v = new Volunteer();
+            v.setMyuser(user("volunteer" + i + "@load.test", "7" + String.format("%09d", i),
+                    hash, UserType.ROLE_VOLUNTEER));
+            v.setVtype(Vtype.values()[i % Vtype.values().length]);
+            v.setArea("Zone " + (i % 40));
+            v.setSkill("general");
+            v.setLatitude(CENTER_LAT + rnd.nextDouble(-SPREAD, SPREAD));
+            v.setLongitude(CENTER_LNG + rnd.nextDouble(-SPREAD, SPREAD));
+            // one in five is off duty
+            v.setAvailability(i % 5 != 0);
+            vols.add(v);
+            if (v.isAvailability()) {
+                available.add(new SeededVolunteer(v.getMyuser().getEmail(), v.getLatitude(), v.getLongitude()));
+            }
+        }
+        saveInChunks(vols, chunk -> {
+            userRepo.saveAll(chunk.stream().map(Volunteer::getMyuser).toList());
+            volunteerRepo.saveAll(chunk);
+        });
+
+        List<Report> reportList = new ArrayList<>(reports);
+        Status[] statuses = Status.values();
+        for (int i = 0; i < reports; i++) {
+            Report r = new Report();
+            r.setDescription("Seeded report number " + i);
+            r.setLocation("Ward " + (i % 60));
+            r.setLatitude(CENTER_LAT + rnd.nextDouble(-SPREAD, SPREAD));
+            r.setLongitude(CENTER_LNG + rnd.nextDouble(-SPREAD, SPREAD));
+            r.setImagepath("");
+            r.setCategory(Category.values()[i % Category.values().length]);
+            r.setCitizen(citizenUsers.get(i % citizens));
+            // mostly open, so the nearby feed has something to return
+            Status status = i % 3 == 0 ? statuses[rnd.nextInt(statuses.length)] : Status.CREATED;
+            r.setStatus(status);
+            if (status != Status.CREATED) {
+                r.setVolunteer(vols.get(i % volunteers));
+            }
+            reportList.add(r);
+        }
+        saveInChunks(reportList, reportRepo::saveAll);
+
+        geoIndex.rebuild();
+        log.info("Seeded {} citizens, {} volunteers ({} available), {} reports",
+                citizens, volunteers, available.size(), reports);
+        return available;
+    }
+
+    private static User user(String email, String mobile, String hash, UserType type) {
+        User u = new User();
+        u.setEmail(email);
+        u.setMobile(mobile);
+        u.setName("Load " + type.name().substring(5).toLowerCase());
+        u.setPassword(hash);
+        u.setUserType(type);
+        return u;
+    }
+
+    private <T> void saveInChunks(List<T> items, Consumer<List<T>> save) {
+        for (int from = 0; from < items.size(); from += CHUNK) {
+            List<T> chunk = items.subList(from, Math.min(items.size(), from + CHUNK));
+            tx.executeWithoutResult(status -> save.accept(chunk));
+        }
+    }
+}
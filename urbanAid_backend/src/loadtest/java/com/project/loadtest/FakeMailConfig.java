@@ -0,0 +1,52 @@
+package com.project.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import jakarta.mail.internet.MimeMessage;
+
+/*
+ * In-process JavaMailSender: messages are built exactly as in production,
+ * then counted instead of going to SMTP. Each send() call (one connection in
+ * the real sender) costs loadtest.mail.latency-ms.
+ */
+@Configuration
+@Profile("loadtest")
+public class FakeMailConfig {
+
+    @Bean
+    JavaMailSender javaMailSender(@Value("${loadtest.mail.latency-ms:20}") long latencyMs) {
+        return new CountingMailSender(latencyMs);
+    }
+
+    public static class CountingMailSender extends JavaMailSenderImpl {
+
+        private final long latencyMs;
+        private final AtomicLong sent = new AtomicLong();
+
+        CountingMailSender(long latencyMs) {
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) throws MailException {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sent.addAndGet(mimeMessages.length);
+        }
+
+        public long sent() {
+            return sent.get();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.project.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.entities.Category;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Drives the real citizen -> volunteer flow over HTTP, one virtual thread per
+ * simulated client:
+ * register -> signin -> create report -> (volunteer) signin -> nearby -> claim -> status update
+ * An iteration stops at the first failed step.
+ * Optional mail clients call GET /test-email in a loop alongside the flow,
+ * which holds a request thread for one synchronous SMTP round trip.
+ */
+@Slf4j
+class FlowDriver {
+
+    static final List<String> ENDPOINTS = List.of(
+            "register", "signin", "createReport", "nearby", "claim", "status", "testEmail");
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private final String baseUrl;
+    private final ObjectMapper json;
+    private final List<DataSeeder.SeededVolunteer> volunteers;
+    private final LatencyRecorder recorder;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong flowsCompleted = new AtomicLong();
+
+    FlowDriver(String baseUrl, ObjectMapper json,
+               List<DataSeeder.SeededVolunteer> volunteers, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.json = json;
+        this.volunteers = volunteers;
+        this.recorder = recorder;
+    }
+
+    long flowsCompleted() {
+        return flowsCompleted.get();
+    }
+
+    // Runs `concurrency` flow clients and `mailClients` mail clients until the deadline
+    void run(int concurrency, int mailClients, long deadlineNanos) throws InterruptedException {
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> loop(this::flow, deadlineNanos));
+            }
+            for (int i = 0; i < mailClients; i++) {
+                clients.submit(() -> loop(() -> call("testEmail", "GET", "/test-email", null, null), deadlineNanos));
+            }
+            clients.shutdown();
+            clients.awaitTermination(deadlineNanos - System.nanoTime() + TimeUnit.SECONDS.toNanos(30),
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private interface Step {
+        void run() throws Exception;
+    }
+
+    private static void loop(Step step, long deadlineNanos) {
+        while (System.nanoTime() < deadlineNanos) {
+            try {
+                step.run();
+            } catch (Exception e) {
+                log.debug("Flow aborted: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void flow() throws Exception {
+        long n = sequence.incrementAndGet();
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        String email = "run" + n + "@load.test";
+        JsonNode registered = call("register", "POST", "/citizens/register", null, Map.of(
+                "email", email,
+                "mobile", "8" + String.format("%09d", n),
+                "name", "Load citizen " + n,
+                "password", DataSeeder.PASSWORD,
+                "userType", "ROLE_CITIZEN"));
+        if (registered == null) {
+            return;
+        }
+
+        JsonNode citizen = signin(email);
+        if (citizen == null) {
+            return;
+        }
+
+        // report a few hundred metres from a random on-duty volunteer
+        DataSeeder.SeededVolunteer vol = volunteers.get(rnd.nextInt(volunteers.size()));
+        JsonNode report = call("createReport", "POST",
+                "/reports?citizenId=" + citizen.get("userId").asLong(), citizen.get("jwt").asText(), Map.of(
+                        "description", "Load test report number " + n,
+                        "location", "Near volunteer " + vol.email(),
+                        "latitude", vol.latitude() + rnd.nextDouble(-0.003, 0.003),
+                        "longitude", vol.longitude() + rnd.nextDouble(-0.003, 0.003),
+                        "category", Category.values()[rnd.nextInt(Category.values().length)].name()));
+        if (report == null) {
+            return;
+        }
+        long reportId = report.get("id").asLong();
+
+        JsonNode volunteer = signin(vol.email());
+        if (volunteer == null) {
+            return;
+        }
+        String volJwt = volunteer.get("jwt").asText();
+        long volUserId = volunteer.get("userId").asLong();
+
+        if (call("nearby", "GET", "/reports/nearby?volunteerId=" + volUserId, volJwt, null) == null
+                || call("claim", "PUT", "/reports/" + reportId + "/claim?volunteerId=" + volUserId, volJwt, null) == null
+                || call("status", "PUT", "/reports/" + reportId + "/status?status=IN_PROGRESS&volunteerId=" + volUserId,
+                        volJwt, null) == null) {
+            return;
+        }
+        flowsCompleted.incrementAndGet();
+    }
+
+    private JsonNode signin(String email) throws Exception {
+        return call("signin", "POST", "/users/signin", null,
+                Map.of("email", email, "password", DataSeeder.PASSWORD));
+    }
+
+    // Timed request; returns the parsed body, or null on a non-2xx answer
+    private JsonNode call(String endpoint, String method, String path, String jwt, Object body) throws Exception {
+        HttpRequest.Builder req = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (jwt != null) {
+            req.header("Authorization", "Bearer " + jwt);
+        }
+        if (body != null) {
+            req.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body)));
+        } else {
+            req.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<byte[]> resp = http.send(req.build(), HttpResponse.BodyHandlers.ofByteArray());
+        long elapsed = System.nanoTime() - start;
+
+        boolean ok = resp.statusCode() / 100 == 2;
+        recorder.record(endpoint, elapsed, ok);
+        if (!ok) {
+            log.debug("{} {} -> {}", method, path, resp.statusCode());
+            return null;
+        }
+        boolean isJson = resp.headers().firstValue("Content-Type").orElse("").contains("json");
+        return resp.body().length == 0 || !isJson ? json.createObjectNode() : json.readTree(resp.body());
+    }
+}
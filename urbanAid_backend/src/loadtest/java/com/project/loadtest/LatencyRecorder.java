@@ -0,0 +1,85 @@
+package com.project.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Per-endpoint latency samples (nanoseconds). Samples are only kept once
+ * recording is switched on, so the warm-up phase doesn't skew percentiles.
+ */
+class LatencyRecorder {
+
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    record Summary(String endpoint, long requests, long errors, double throughputPerSec,
+                   double p50Ms, double p99Ms, double maxMs) {
+    }
+
+    void start() {
+        endpoints.clear();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    void record(String endpoint, long nanos, boolean ok) {
+        if (recording) {
+            endpoints.computeIfAbsent(endpoint, k -> new Samples()).add(nanos, ok);
+        }
+    }
+
+    List<Summary> summarize(double seconds, List<String> order) {
+        Map<String, Summary> result = new LinkedHashMap<>();
+        for (String endpoint : order) {
+            Samples s = endpoints.get(endpoint);
+            if (s != null) {
+                result.put(endpoint, s.summary(endpoint, seconds));
+            }
+        }
+        return List.copyOf(result.values());
+    }
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long value, boolean ok) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized Summary summary(String endpoint, double seconds) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new Summary(endpoint, size, errors, size / seconds,
+                    millis(percentile(sorted, 0.50)),
+                    millis(percentile(sorted, 0.99)),
+                    millis(size == 0 ? 0 : sorted[size - 1]));
+        }
+
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, rank)];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.project.loadtest;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.UrbanAidBackendApplication;
+import com.project.repository.ReportRepository;
+import com.project.repository.UserRepository;
+import com.project.repository.VolunteerRepository;
+import com.project.util.VolunteerGeoIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Boots the application with the "loadtest" profile (H2 + fake SMTP), seeds
+ * it, drives the end-to-end flow and prints p50/p99 latency and throughput
+ * per endpoint. Results are also written as JSON (loadtest.result-file).
+ *
+ *   mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--loadtest.concurrency=64"
+ *
+ * Platform vs virtual request threads under slow SMTP: run twice with
+ *   --loadtest.mail-clients=400 --loadtest.mail.latency-ms=200 --spring.threads.virtual.enabled=false|true
+ */
+@Slf4j
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        // devtools' restart classloader would reload the app mid-run
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        SpringApplication app = new SpringApplication(UrbanAidBackendApplication.class);
+        app.setAdditionalProfiles("loadtest");
+        ConfigurableApplicationContext ctx = app.run(args);
+        int exit = 0;
+        try {
+            run(ctx);
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            exit = 1;
+        } finally {
+            SpringApplication.exit(ctx);
+        }
+        System.exit(exit);
+    }
+
+    private static void run(ConfigurableApplicationContext ctx) throws Exception {
+        Environment env = ctx.getEnvironment();
+        int citizens = env.getProperty("loadtest.seed.citizens", Integer.class, 1000);
+        int volunteers = env.getProperty("loadtest.seed.volunteers", Integer.class, 2000);
+        int reports = env.getProperty("loadtest.seed.reports", Integer.class, 5000);
+        int concurrency = env.getProperty("loadtest.concurrency", Integer.class, 32);
+        int mailClients = env.getProperty("loadtest.mail-clients", Integer.class, 0);
+        boolean virtual = env.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        int warmup = env.getProperty("loadtest.warmup-seconds", Integer.class, 10);
+        int duration = env.getProperty("loadtest.duration-seconds", Integer.class, 60);
+        String resultFile = env.getProperty("loadtest.result-file", "target/loadtest-result.json");
+
+        DataSeeder seeder = new DataSeeder(
+                ctx.getBean(UserRepository.class),
+                ctx.getBean(VolunteerRepository.class),
+                ctx.getBean(ReportRepository.class),
+                ctx.getBean(VolunteerGeoIndex.class),
+                ctx.getBean(PasswordEncoder.class),
+                ctx.getBean(TransactionTemplate.class));
+        List<DataSeeder.SeededVolunteer> available = seeder.seed(citizens, volunteers, reports);
+
+        String baseUrl = "http://localhost:" + env.getProperty("local.server.port");
+        ObjectMapper json = ctx.getBean(ObjectMapper.class);
+        LatencyRecorder recorder = new LatencyRecorder();
+        FlowDriver driver = new FlowDriver(baseUrl, json, available, recorder);
+
+        log.info("Warm-up: {} clients for {}s", concurrency, warmup);
+        driver.run(concurrency, mailClients, System.nanoTime() + TimeUnit.SECONDS.toNanos(warmup));
+
+        log.info("Measuring: {} clients + {} mail clients for {}s on {} request threads",
+                concurrency, mailClients, duration, virtual ? "virtual" : "platform");
+        long flowsBefore = driver.flowsCompleted();
+        recorder.start();
+        long start = System.nanoTime();
+        driver.run(concurrency, mailClients, start + TimeUnit.SECONDS.toNanos(duration));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        recorder.stop();
+
+        List<LatencyRecorder.Summary> summary = recorder.summarize(seconds, FlowDriver.ENDPOINTS);
+        long flows = driver.flowsCompleted() - flowsBefore;
+        long mails = ctx.getBean(FakeMailConfig.CountingMailSender.class).sent();
+
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n%-14s %10s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms"));
+        for (LatencyRecorder.Summary s : summary) {
+            out.append(String.format("%-14s %10d %8d %10.1f %10.2f %10.2f %10.2f%n",
+                    s.endpoint(), s.requests(), s.errors(), s.throughputPerSec(), s.p50Ms(), s.p99Ms(), s.maxMs()));
+        }
+        out.append(String.format("%nflows completed: %d (%.1f/s), emails sent: %d, concurrency: %d + %d mail, %s threads, %.0fs%n",
+                flows, flows / seconds, mails, concurrency, mailClients, virtual ? "virtual" : "platform", seconds));
+        appendConnectionUsage(out, ctx.getBean(MeterRegistry.class));
+        System.out.println(out);
+
+        File file = new File(resultFile);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        json.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, Map.of(
+                "concurrency", concurrency,
+                "mailClients", mailClients,
+                "virtualThreads", virtual,
+                "durationSeconds", seconds,
+                "seed", Map.of("citizens", citizens, "volunteers", volunteers, "reports", reports),
+                "flowsCompleted", flows,
+                "emailsSent", mails,
+                "endpoints", summary));
+        log.info("Results written to {}", file.getAbsolutePath());
+    }
+
+    // Pooled connection use per service method (db.connection.*), busiest first
+    private static void appendConnectionUsage(StringBuilder out, MeterRegistry registry) {
+        List<Timer> holds = new ArrayList<>(registry.find("db.connection.hold").timers());
+        holds.sort(Comparator.comparingDouble((Timer t) -> t.totalTime(TimeUnit.MILLISECONDS)).reversed());
+        out.append(String.format("%n%-48s %8s %12s %12s %12s%n",
+                "connection held by", "count", "mean ms", "max ms", "wait mean ms"));
+        for (Timer hold : holds.subList(0, Math.min(10, holds.size()))) {
+            Timer wait = registry.find("db.connection.wait").tags(hold.getId().getTags()).timer();
+            out.append(String.format("%-48s %8d %12.2f %12.2f %12.2f%n",
+                    hold.getId().getTag("method"), hold.count(), hold.mean(TimeUnit.MILLISECONDS),
+                    hold.max(TimeUnit.MILLISECONDS), wait == null ? 0.0 : wait.mean(TimeUnit.MILLISECONDS)));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.project.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/*
+ * Per service method connection metrics, to size the pool from data:
+ *
+ *   db.connection.wait{pool, method}  time spent in getConnection (pool queue)
+ *   db.connection.hold{pool, method}  time from getting the connection to closing it
+ *
+ * Every Hikari pool bean is wrapped; the method tag is the name of the Spring
+ * transaction using the connection ("ReportServiceImpl.createReport"), read at
+ * the first statement because JPA takes the connection before the name is
+ * bound. Work outside a transaction is tagged "none". Hikari's own
+ * hikaricp.connections.* meters still cover the pool as a whole.
+ */
+@Component
+public class ConnectionMetricsPostProcessor implements BeanPostProcessor {
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource pool) {
+            return new MeteredDataSource(pool, meterRegistry);
+        }
+        return bean;
+    }
+
+    static final class MeteredDataSource extends DelegatingDataSource {
+
+        private final HikariDataSource pool;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        MeteredDataSource(HikariDataSource pool, ObjectProvider<MeterRegistry> meterRegistry) {
+            super(pool);
+            this.pool = pool;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            long start = System.nanoTime();
+            return metered(super.getConnection(), start);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            long start = System.nanoTime();
+            return metered(super.getConnection(username, password), start);
+        }
+
+        private Connection metered(Connection target, long requested) {
+            long acquired = System.nanoTime();
+            Usage usage = new Usage(acquired - requested, acquired);
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.equals("equals")) {
+                            return proxy == args[0];
+                        }
+                        if (name.equals("hashCode")) {
+                            return System.identityHashCode(proxy);
+                        }
+                        if (usage.method == null && STATEMENT_METHODS.contains(name)) {
+                            usage.method = currentMethod();
+                        }
+                        if (name.equals("close") && !usage.closed) {
+                            usage.closed = true;
+                            record(usage);
+                        }
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+
+        private void record(Usage usage) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            String method = usage.method != null ? usage.method : currentMethod();
+            String poolName = String.valueOf(pool.getPoolName());
+            Timer.builder("db.connection.wait")
+                    .description("Time waiting for a pooled connection")
+                    .tags("pool", poolName, "method", method)
+                    .register(registry)
+                    .record(usage.waitNanos, TimeUnit.NANOSECONDS);
+            Timer.builder("db.connection.hold")
+                    .description("Time a pooled connection was held before being returned")
+                    .tags("pool", poolName, "method", method)
+                    .register(registry)
+                    .record(System.nanoTime() - usage.acquiredNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static final class Usage {
+
+        final long waitNanos;
+        final long acquiredNanos;
+        String method;
+        boolean closed;
+
+        Usage(long waitNanos, long acquiredNanos) {
+            this.waitNanos = waitNanos;
+            this.acquiredNanos = acquiredNanos;
+        }
+    }
+
+    // "com.project.service.ReportServiceImpl.createReport" -> "ReportServiceImpl.createReport"
+    static String currentMethod() {
+        String tx = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (tx == null) {
+            return "none";
+        }
+        int methodDot = tx.lastIndexOf('.');
+        return methodDot <= 0 ? tx : tx.substring(tx.lastIndexOf('.', methodDot - 1) + 1);
+    }
+}
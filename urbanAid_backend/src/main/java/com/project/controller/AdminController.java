@@ -1,17 +1,33 @@
 package com.project.controller;
 
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.dto.ReportFilterDTO;
+import com.project.entities.Category;
+import com.project.entities.RollupGranularity;
+import com.project.entities.Status;
 import com.project.service.ReportService;
+import com.project.service.StatsService;
 import com.project.service.UserService;
 import com.project.service.VolunteerService;
+import com.project.util.BoundingBox;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -25,19 +41,73 @@ public class AdminController {
     private final UserService userService;
     private final VolunteerService volunteerService;
     private final ReportService reportService;
+    private final StatsService statsService;
+    private final ObjectMapper objectMapper;
 
+    // Listings are keyset paged: pass the returned nextCursor as "after"
     @GetMapping("/users")
-    public ResponseEntity<?> listAllUsers() {
-        return ResponseEntity.ok(userService.listAllUsers());
+    public ResponseEntity<?> listAllUsers(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(userService.listUsersPage(after, size));
     }
 
     @GetMapping("/volunteers")
-    public ResponseEntity<?> listAllVolunteers() {
-        return ResponseEntity.ok(volunteerService.listAllVolunteers());
+    public ResponseEntity<?> listAllVolunteers(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(volunteerService.listVolunteersPage(after, size));
     }
 
     @GetMapping("/reports")
-    public ResponseEntity<?> listAllReports() {
-        return ResponseEntity.ok(reportService.getAllReports());
+    public ResponseEntity<?> listAllReports(
+            ReportFilterDTO filter,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(reportService.getReportsPage(filter, after, size));
+    }
+
+    // Heat map: report counts per geohash cell (precision 1-7) inside the viewport
+    @GetMapping("/hotspots")
+    public ResponseEntity<?> hotSpots(
+            @RequestParam(defaultValue = "5") int precision,
+            @RequestParam double minLat,
+            @RequestParam double maxLat,
+            @RequestParam double minLng,
+            @RequestParam double maxLng,
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Category category) {
+        return ResponseEntity.ok(reportService.getHotSpots(
+                precision, new BoundingBox(minLat, maxLat, minLng, maxLng), status, category));
+    }
+
+    // Dashboard statistics from the hourly/daily rollups; area is a geohash (prefix)
+    @GetMapping("/stats")
+    public ResponseEntity<?> stats(
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Category category,
+            @RequestParam(required = false) String area) {
+        return ResponseEntity.ok(statsService.getStats(granularity, from, to, category, area));
+    }
+
+    // Full export as NDJSON (one report per line), streamed straight from the DB cursor
+    @GetMapping(value = "/reports/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportReports(ReportFilterDTO filter, HttpServletResponse response) throws IOException {
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        Writer out = response.getWriter();
+
+        reportService.exportReports(filter, dto -> {
+            try {
+                out.write(objectMapper.writeValueAsString(dto));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
     }
 }
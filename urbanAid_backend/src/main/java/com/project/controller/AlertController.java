@@ -2,6 +2,7 @@ package com.project.controller;
 
 import com.project.dto.AlertRequestDto;
 import com.project.service.AlertService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,7 +20,11 @@ public class AlertController {
     public ResponseEntity<String> raiseAlert(
             @RequestBody AlertRequestDto request) {
 
-        alertService.handleAlert(request);
-        return ResponseEntity.ok("Nearby volunteers alerted successfully");
+        if (!alertService.handleAlert(request)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body("Alert queue is full, please retry shortly");
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body("Nearby volunteers will be alerted shortly");
     }
 }
@@ -0,0 +1,136 @@
+package com.project.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.project.service.ImageStorageService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Public, immutable report images. Bodies never pass through the JVM heap:
+ * Tomcat's sendfile is used when the connector supports it, otherwise
+ * FileChannel.transferTo straight into the response stream.
+ */
+@RestController
+@RequestMapping("/reports/image")
+@RequiredArgsConstructor
+public class ImageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // names are content hashes, so a URL never changes meaning
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final ImageStorageService imageStorage;
+
+    @GetMapping("/{name:.+}")
+    public void getImage(@PathVariable String name,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+
+        Path file = imageStorage.original(name);
+        serve(file, etag(name, ""), MediaTypeFactory.getMediaType(name)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM), request, response);
+    }
+
+    @GetMapping("/thumb/{name:.+}")
+    public void getThumbnail(@PathVariable String name,
+                             HttpServletRequest request,
+                             HttpServletResponse response) throws IOException {
+
+        Path file = imageStorage.thumbnail(name);
+        MediaType type = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        serve(file, etag(name, "-thumb"), type, request, response);
+    }
+
+    private void serve(Path file, String etag, MediaType type,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        // sets ETag and answers 304 on a matching If-None-Match
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            long start = 0;
+            long end = length - 1;
+
+            response.setContentType(type.toString());
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+            // single byte ranges only; multipart/byteranges isn't worth it for images
+            String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+            if (rangeHeader != null) {
+                List<HttpRange> ranges;
+                try {
+                    ranges = HttpRange.parseRanges(rangeHeader);
+                } catch (IllegalArgumentException e) {
+                    ranges = List.of();
+                }
+                if (ranges.size() == 1) {
+                    HttpRange range = ranges.get(0);
+                    start = range.getRangeStart(length);
+                    end = range.getRangeEnd(length);
+                    if (start >= length || start > end) {
+                        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                        response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                        return;
+                    }
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE,
+                            "bytes " + start + "-" + end + "/" + length);
+                }
+            }
+
+            long count = end - start + 1;
+            response.setContentLengthLong(count);
+            if ("HEAD".equals(request.getMethod()) || count <= 0) {
+                return;
+            }
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                // Tomcat streams the file itself once the servlet returns
+                request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                return;
+            }
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long pos = start;
+            while (pos <= end) {
+                pos += channel.transferTo(pos, end + 1 - pos, out);
+            }
+        }
+    }
+
+    private static String etag(String name, String variant) {
+        int dot = name.indexOf('.');
+        return "\"" + (dot < 0 ? name : name.substring(0, dot)) + variant + "\"";
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.project.dto.NotificationDTO;
+import com.project.entities.UserType;
+import com.project.security.UserPrincipal;
+import com.project.service.NotificationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('CITIZEN','VOLUNTEER')")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @GetMapping
+    @Operation(description = "Latest notifications of the logged-in user")
+    public ResponseEntity<List<NotificationDTO>> getMyNotifications(Authentication authentication) {
+
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        return ResponseEntity.ok(
+                notificationService.getMyNotifications(principal.getUserId(), role(principal)));
+    }
+
+    // Events: "notification" (NotificationDTO) and "report-status" (ReportDTO)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(description = "Server-sent events for notifications and report status changes")
+    public SseEmitter stream(Authentication authentication) {
+
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        return notificationService.subscribe(principal.getUserId(), role(principal));
+    }
+
+    private static UserType role(UserPrincipal principal) {
+        return UserType.valueOf(principal.getAuthorities().iterator().next().getAuthority());
+    }
+}
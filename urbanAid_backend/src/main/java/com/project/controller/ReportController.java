@@ -1,14 +1,11 @@
 package com.project.controller;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.IOException;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -19,10 +16,14 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.project.custom_exceptions.InvalidInputException;
 import com.project.dto.CreateReportDTO;
+import com.project.dto.CursorPage;
 import com.project.dto.ReportDTO;
+import com.project.dto.ReportFilterDTO;
 import com.project.entities.Status;
 import com.project.security.UserPrincipal;
+import com.project.service.ImageStorageService;
 import com.project.service.ReportService;
 
 import jakarta.validation.Valid;
@@ -36,6 +37,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ImageStorageService imageStorage;
 
     // 1 CITIZEN CREATES REPORT
     @PostMapping
@@ -50,13 +52,16 @@ public class ReportController {
     }
 
     // 2️ VOLUNTEER VIEWS NEARBY REPORTS
+    // nearest `limit` open reports, searching outwards up to maxRadius km
     @GetMapping("/nearby")
     @PreAuthorize("hasRole('VOLUNTEER')")
     public ResponseEntity<List<ReportDTO>> getNearbyReports(
-            @RequestParam Long volunteerId) {
+            @RequestParam Long volunteerId,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) Double maxRadius) {
 
         return ResponseEntity.ok(
-                reportService.getNearbyUnassignedReports(volunteerId));
+                reportService.getNearbyUnassignedReports(volunteerId, limit, maxRadius));
     }
 
     // 3️ VOLUNTEER CLAIMS REPORT
@@ -83,34 +88,25 @@ public class ReportController {
     }
     
     
+    // Stored content-addressed; returns the relative URL (reports/image/<sha256>.<ext>)
     @PostMapping("/upload-image")
     @PreAuthorize("hasRole('CITIZEN')")
     public ResponseEntity<String> uploadImage(
             @RequestParam("image") MultipartFile image) {
-    	Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-    	log.info("AUTH = {}", auth);
-
 
+        if (image.isEmpty()) {
+            return ResponseEntity.badRequest().body("Empty image");
+        }
         try {
-            if (image.isEmpty()) {
-                return ResponseEntity.badRequest().body("Empty image");
-            }
-
-            String uploadDir = "uploads/reports/";
-            Files.createDirectories(Paths.get(uploadDir));
-
-            String fileName = System.currentTimeMillis() + "_" + image.getOriginalFilename();
-            Path filePath = Paths.get(uploadDir, fileName);
-
-            Files.copy(image.getInputStream(), filePath);
-
-            return ResponseEntity.ok(filePath.toString());
-
-        } catch (Exception e) {
-            e.printStackTrace();
+            return ResponseEntity.ok(imageStorage.store(image));
+        } catch (InvalidInputException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IOException e) {
+            log.error("Image upload failed", e);
             return ResponseEntity.internalServerError()
                     .body("Image upload failed");
-        }}
+        }
+    }
 
     // 5️ USER VIEWS OWN REPORTS (citizen OR volunteer)
     @GetMapping("/my")
@@ -141,12 +137,15 @@ public class ReportController {
         return ResponseEntity.ok(reportService.getReportById(reportId));
     }
 
-    // 6️ ADMIN MONITORING
+    // 6️ ADMIN MONITORING (keyset paged, pass nextCursor back as "after")
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ReportDTO>> getAllReports() {
+    public ResponseEntity<CursorPage<ReportDTO>> getAllReports(
+            ReportFilterDTO filter,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size) {
 
         return ResponseEntity.ok(
-                reportService.getAllReports());
+                reportService.getReportsPage(filter, after, size));
     }
 }
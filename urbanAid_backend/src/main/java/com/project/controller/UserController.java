@@ -1,7 +1,5 @@
 package com.project.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,6 +11,7 @@ import org.springframework.web.bind.annotation.*;
 import com.project.dto.AuthRequest;
 import com.project.dto.AuthResp;
 import com.project.dto.CreateUserDTO;
+import com.project.dto.CursorPage;
 import com.project.dto.UserDTO;
 import com.project.entities.User;
 import com.project.security.JwtUtils;
@@ -43,19 +42,16 @@ public class UserController {
 
 
     
-     //1. List all users
+     //1. List users, keyset paged: pass the returned nextCursor as "after"
      
      
     @GetMapping
-    @Operation(description = "List all users")
-    public ResponseEntity<?> listAllUsers() {
-        log.info("in list all users");
-        List<UserDTO> users = userService.listAllUsers();
-
-        if (users.isEmpty())
-            return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
-
-        return ResponseEntity.ok(users);
+    @Operation(description = "List users, one page at a time")
+    public ResponseEntity<CursorPage<UserDTO>> listAllUsers(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int size) {
+        log.info("in list users after {}", after);
+        return ResponseEntity.ok(userService.listUsersPage(after, size));
     }
 
     /*
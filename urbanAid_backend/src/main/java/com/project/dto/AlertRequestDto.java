@@ -1,5 +1,7 @@
 package com.project.dto;
 
+import com.project.entities.Category;
+
 import lombok.Data;
 import lombok.Getter;
 
@@ -10,5 +12,7 @@ public class AlertRequestDto {
     private String type;
     private double latitude;
     private double longitude;
+    // set for report alerts; null (raw /alerts call) matches every volunteer type
+    private Category category;
 
 }
\ No newline at end of file
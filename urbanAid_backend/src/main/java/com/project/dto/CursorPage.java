@@ -0,0 +1,18 @@
+package com.project.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * One page of a keyset (id cursor) listing.
+ * nextCursor is the id to pass as "after" for the next page, null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+    private Long nextCursor;
+}
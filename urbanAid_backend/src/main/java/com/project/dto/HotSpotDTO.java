@@ -0,0 +1,25 @@
+package com.project.dto;
+
+import java.util.Map;
+
+import com.project.entities.Category;
+import com.project.entities.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * Report counts for one geohash cell of the admin heat map.
+ * latitude/longitude are the cell centre; the maps only list non-zero counts.
+ */
+@Getter
+@AllArgsConstructor
+public class HotSpotDTO {
+
+    private String geohash;
+    private double latitude;
+    private double longitude;
+    private int count;
+    private Map<Category, Integer> byCategory;
+    private Map<Status, Integer> byStatus;
+}
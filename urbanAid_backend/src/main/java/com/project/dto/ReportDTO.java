@@ -1,15 +1,18 @@
 package com.project.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.project.entities.Category;
 import com.project.entities.Status;
 
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class ReportDTO {
 
     private Long id;
@@ -26,4 +29,21 @@ public class ReportDTO {
 
     private Long citizenId;
     private Long volunteerId;
+
+    // Metres from the volunteer, only filled in by the nearby search
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceMeters;
+
+    // Used by JPQL constructor expressions in ReportRepository
+    public ReportDTO(Long id, String description, String location, String imagepath,
+                     Status status, Category category, Long citizenId, Long volunteerId) {
+        this.id = id;
+        this.description = description;
+        this.location = location;
+        this.imagepath = imagepath;
+        this.status = status;
+        this.category = category;
+        this.citizenId = citizenId;
+        this.volunteerId = volunteerId;
+    }
 }
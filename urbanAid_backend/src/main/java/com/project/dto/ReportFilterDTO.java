@@ -0,0 +1,27 @@
+package com.project.dto;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.project.entities.Category;
+import com.project.entities.Status;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// Optional filters for admin report listings (bound from query params)
+@Getter
+@Setter
+public class ReportFilterDTO {
+
+    private Status status;
+
+    private Category category;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+}
@@ -0,0 +1,25 @@
+package com.project.dto;
+
+import java.time.LocalDateTime;
+
+import com.project.entities.Category;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * Report activity of one bucket and category (bucketStart and category are
+ * null on totals). Means are in minutes and null when nothing was counted.
+ */
+@Getter
+@AllArgsConstructor
+public class RollupDTO {
+
+    private LocalDateTime bucketStart;
+    private Category category;
+    private long created;
+    private long assigned;
+    private long resolved;
+    private Double meanClaimMinutes;
+    private Double meanResolveMinutes;
+}
@@ -0,0 +1,26 @@
+package com.project.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.project.entities.RollupGranularity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * Dashboard statistics over [from, to): one row per bucket and category, plus
+ * the totals. open is not windowed: the reports not yet completed right now
+ * (of the requested category, every area).
+ */
+@Getter
+@AllArgsConstructor
+public class StatsDTO {
+
+    private RollupGranularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<RollupDTO> rows;
+    private RollupDTO totals;
+    private long open;
+}
@@ -0,0 +1,29 @@
+package com.project.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+ * One row per scheduled job that must not run on two instances at once
+ * ("auto_assign"). A run holds a row lock on it for its whole duration.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "job_lock")
+public class JobLock {
+
+    @Id
+    @Column(length = 40)
+    private String name;
+
+    public JobLock(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,6 @@
+package com.project.entities;
+
+public enum OutboxChannel {
+    NOTIFICATION,   // in-app Notification row
+    EMAIL           // outgoing mail
+}
@@ -0,0 +1,67 @@
+package com.project.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/*
+ * Side effect recorded in the same transaction as the business change and
+ * delivered later by OutboxRelay.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "outbox_message",
+       indexes = @Index(name = "idx_outbox_status_next", columnList = "status, nextAttemptAt"))
+public class OutboxMessage extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxChannel channel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    // NOTIFICATION fields
+    @Enumerated(EnumType.STRING)
+    private UserType recipientType;
+
+    private Long recipientId;
+
+    private Long reportId;
+
+    @Enumerated(EnumType.STRING)
+    private NotificationType notificationType;
+
+    // EMAIL fields
+    @Column(length = 100)
+    private String recipientEmail;
+
+    @Column(length = 200)
+    private String subject;
+
+    @Column(nullable = false, length = 500)
+    private String body;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // when PENDING: not before this time; when IN_FLIGHT: end of the relay's lease
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // identifies the relay poll that claimed the row
+    @Column(length = 36)
+    private String claimToken;
+
+    @Column(length = 500)
+    private String lastError;
+}
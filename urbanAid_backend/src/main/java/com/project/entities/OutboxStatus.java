@@ -0,0 +1,8 @@
+package com.project.entities;
+
+public enum OutboxStatus {
+    PENDING,    // waiting for the relay (or a retry)
+    IN_FLIGHT,  // claimed by one relay until nextAttemptAt (its lease)
+    SENT,       // delivered
+    FAILED      // gave up after max attempts
+}
@@ -1,18 +1,27 @@
 package com.project.entities;
 
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
 @Entity
+// Lets the nearby query range-scan status + bounding box instead of the whole table
+@Table(indexes = @Index(name = "idx_report_status_lat_lng", columnList = "status, latitude, longitude"))
 public class Report extends BaseEntity {
 
     @Column(nullable = false, length = 500)
@@ -38,11 +47,16 @@ public class Report extends BaseEntity {
     @Column(nullable = false)
     private Category category;
 
-    @ManyToOne
+    // creation time to the second (BaseEntity only keeps the date); null on rows
+    // created before the column existed
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "citizen_id", nullable = false)
     private User citizen;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "volunteer_id")
     private Volunteer volunteer;  // nullable before assignment
 }
@@ -0,0 +1,49 @@
+package com.project.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/*
+ * Pre-aggregated report activity for one hour or day, category and area
+ * (geohash cell), maintained by RollupJob. Durations are kept as sums and
+ * counts so buckets can be added up before taking the mean.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "report_rollup",
+       uniqueConstraints = @UniqueConstraint(name = "uk_rollup_bucket",
+               columnNames = { "granularity", "bucketStart", "category", "area" }))
+public class ReportRollup extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Category category;
+
+    @Column(nullable = false, length = 12)
+    private String area;
+
+    private long created;
+    private long assigned;
+    private long resolved;
+
+    // report creation -> assignment, over the assignments in this bucket
+    private long claimSeconds;
+    // report creation -> RESOLVED, over the resolutions in this bucket
+    private long resolveSeconds;
+}
@@ -0,0 +1,14 @@
+package com.project.entities;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupGranularity {
+    HOUR,
+    DAY;
+
+    // Start of the bucket a timestamp falls into
+    public LocalDateTime bucketOf(LocalDateTime t) {
+        return t.truncatedTo(this == HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS);
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+ * Last source row id folded into the rollups, one row per source
+ * ("report", "task_history"). Locked while a rollup pass runs.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "rollup_watermark")
+public class RollupWatermark {
+
+    @Id
+    @Column(length = 40)
+    private String name;
+
+    @Column(nullable = false)
+    private long lastId;
+
+    public RollupWatermark(String name) {
+        this.name = name;
+    }
+}
@@ -1,5 +1,8 @@
 package com.project.entities;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum Status {
     CREATED,
     ASSIGNED,
@@ -7,5 +10,23 @@ public enum Status {
     COMPLETED,
     RESOLVED,
     CANCELLED,
-    REJECTED
+    REJECTED;
+
+    /*
+     * Report lifecycle. CREATED -> ASSIGNED happens through a claim;
+     * RESOLVED, CANCELLED and REJECTED are final.
+     */
+    public Set<Status> next() {
+        return switch (this) {
+            case CREATED -> EnumSet.of(ASSIGNED, CANCELLED, REJECTED);
+            case ASSIGNED -> EnumSet.of(IN_PROGRESS, COMPLETED, CANCELLED, REJECTED);
+            case IN_PROGRESS -> EnumSet.of(COMPLETED, CANCELLED);
+            case COMPLETED -> EnumSet.of(RESOLVED);
+            case RESOLVED, CANCELLED, REJECTED -> EnumSet.noneOf(Status.class);
+        };
+    }
+
+    public boolean canMoveTo(Status target) {
+        return next().contains(target);
+    }
 }
@@ -0,0 +1,22 @@
+package com.project.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.project.dto.NotificationDTO;
+import com.project.entities.Notification;
+
+@Component
+public class NotificationMapper {
+
+    public NotificationDTO toDto(Notification n) {
+        NotificationDTO dto = new NotificationDTO();
+        dto.setId(n.getId());
+        dto.setMessage(n.getMessage());
+        dto.setTimestamp(n.getTimestamp());
+        dto.setRecipientType(n.getRecipientType());
+        dto.setRecipientId(n.getRecipientId());
+        dto.setReportId(n.getReportId());
+        dto.setType(n.getType());
+        return dto;
+    }
+}
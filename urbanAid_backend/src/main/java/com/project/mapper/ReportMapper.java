@@ -0,0 +1,43 @@
+package com.project.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.project.dto.CreateReportDTO;
+import com.project.dto.ReportDTO;
+import com.project.entities.Report;
+
+/*
+ * Plain field copies for Report, replacing reflective ModelMapper calls on the
+ * list endpoints. Produces the same fields ModelMapper (STRICT) did.
+ */
+@Component
+public class ReportMapper {
+
+    public ReportDTO toDto(Report r) {
+        ReportDTO dto = new ReportDTO();
+        dto.setId(r.getId());
+        dto.setDescription(r.getDescription());
+        dto.setLocation(r.getLocation());
+        dto.setImagepath(r.getImagepath());
+        dto.setStatus(r.getStatus());
+        dto.setCategory(r.getCategory());
+        if (r.getCitizen() != null) {
+            dto.setCitizenId(r.getCitizen().getId());
+        }
+        if (r.getVolunteer() != null) {
+            dto.setVolunteerId(r.getVolunteer().getId());
+        }
+        return dto;
+    }
+
+    public Report toEntity(CreateReportDTO dto) {
+        Report r = new Report();
+        r.setDescription(dto.getDescription());
+        r.setLocation(dto.getLocation());
+        r.setLatitude(dto.getLatitude());
+        r.setLongitude(dto.getLongitude());
+        r.setImagepath(dto.getImagepath());
+        r.setCategory(dto.getCategory());
+        return r;
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.project.dto.CreateUserDTO;
+import com.project.dto.UserDTO;
+import com.project.entities.User;
+
+/*
+ * Plain field copies for User. The password is copied as given;
+ * callers encode it before saving.
+ */
+@Component
+public class UserMapper {
+
+    public UserDTO toDto(User u) {
+        UserDTO dto = new UserDTO();
+        dto.setId(u.getId());
+        dto.setEmail(u.getEmail());
+        dto.setMobile(u.getMobile());
+        dto.setBio(u.getBio());
+        dto.setName(u.getName());
+        dto.setDob(u.getDob());
+        dto.setUserType(u.getUserType());
+        return dto;
+    }
+
+    public User toEntity(CreateUserDTO dto) {
+        User u = new User();
+        u.setEmail(dto.getEmail());
+        u.setMobile(dto.getMobile());
+        u.setBio(dto.getBio());
+        u.setName(dto.getName());
+        u.setDob(dto.getDob());
+        u.setPassword(dto.getPassword());
+        u.setUserType(dto.getUserType());
+        return u;
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.project.dto.VolunteerDTO;
+import com.project.entities.Volunteer;
+
+/*
+ * Plain field copies for Volunteer. The nested user is never copied back
+ * into the DTO (it would expose the password hash); on create the caller
+ * maps and links it separately.
+ */
+@Component
+public class VolunteerMapper {
+
+    public VolunteerDTO toDto(Volunteer v) {
+        VolunteerDTO dto = new VolunteerDTO();
+        dto.setId(v.getId());
+        dto.setVtype(v.getVtype());
+        dto.setArea(v.getArea());
+        dto.setLatitude(v.getLatitude());
+        dto.setLongitude(v.getLongitude());
+        dto.setAvailability(v.isAvailability());
+        dto.setSkill(v.getSkill());
+        return dto;
+    }
+
+    public Volunteer toEntity(VolunteerDTO dto) {
+        Volunteer v = new Volunteer();
+        v.setVtype(dto.getVtype());
+        v.setArea(dto.getArea());
+        v.setLatitude(dto.getLatitude());
+        v.setLongitude(dto.getLongitude());
+        v.setAvailability(Boolean.TRUE.equals(dto.getAvailability()));
+        v.setSkill(dto.getSkill());
+        return v;
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.project.entities.JobLock;
+
+import jakarta.persistence.LockModeType;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    // SELECT ... FOR UPDATE: a second instance blocks here until the running job commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM JobLock l WHERE l.name = :name")
+    Optional<JobLock> findForUpdate(@Param("name") String name);
+}
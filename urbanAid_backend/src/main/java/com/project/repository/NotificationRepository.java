@@ -1,9 +1,14 @@
 package com.project.repository;
 
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.project.entities.Notification;
+import com.project.entities.UserType;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+    // Latest notifications of one recipient, newest first
+    List<Notification> findTop50ByRecipientTypeAndRecipientIdOrderByIdDesc(UserType recipientType, Long recipientId);
 }
@@ -0,0 +1,54 @@
+package com.project.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.project.entities.OutboxMessage;
+import com.project.entities.OutboxStatus;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // Candidates for the next batch: due PENDING rows and IN_FLIGHT rows whose lease ran out
+    @Query("""
+        SELECT m.id FROM OutboxMessage m
+        WHERE m.status IN :statuses AND m.nextAttemptAt <= :now
+        ORDER BY m.id
+        """)
+    List<Long> findDueIds(@Param("statuses") Collection<OutboxStatus> statuses,
+                          @Param("now") LocalDateTime now,
+                          Pageable page);
+
+    // Takes the candidates that are still due; a relay that claimed them first has
+    // moved nextAttemptAt to its lease end, so a concurrent claim matches nothing
+    @Modifying
+    @Query("""
+        UPDATE OutboxMessage m
+        SET m.status = :inFlight, m.claimToken = :token, m.nextAttemptAt = :leaseUntil
+        WHERE m.id IN :ids AND m.status IN :statuses AND m.nextAttemptAt <= :now
+        """)
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("statuses") Collection<OutboxStatus> statuses,
+              @Param("now") LocalDateTime now,
+              @Param("inFlight") OutboxStatus inFlight,
+              @Param("token") String token,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<OutboxMessage> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    // Rows in a final state last touched before :before, oldest first; input of the purge
+    @Query("""
+        SELECT m.id FROM OutboxMessage m
+        WHERE m.status = :status AND m.lastUpdated < :before
+        ORDER BY m.id
+        """)
+    List<Long> findIdsToPurge(@Param("status") OutboxStatus status,
+                              @Param("before") LocalDateTime before,
+                              Pageable page);
+}
@@ -1,36 +1,142 @@
 package com.project.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
+import com.project.dto.ReportDTO;
+import com.project.entities.Category;
 import com.project.entities.Report;
 import com.project.entities.Status;
 import com.project.entities.Volunteer;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
+    // DTO projection shared by the list queries: one SELECT, no association loading
+    String SELECT_REPORT_DTO = """
+        SELECT new com.project.dto.ReportDTO(
+            r.id, r.description, r.location, r.imagepath,
+            r.status, r.category, r.citizen.id, v.id)
+        FROM Report r LEFT JOIN r.volunteer v
+        """;
+
     // Citizen
-    List<Report> findByCitizenId(Long citizenId);
+    @Query(SELECT_REPORT_DTO + "WHERE r.citizen.id = :citizenId ORDER BY r.id")
+    List<ReportDTO> findDtosByCitizenId(@Param("citizenId") Long citizenId);
 
-    // NEARBY REPORTS USING ST_Distance_Sphere
-    @Query(value = """
-        SELECT * FROM report r
+    // Reports of one status inside a lat/lng rectangle (lower bounds inclusive),
+    // with their position; fills the nearby cache one block of grid cells at a time
+    @Query("""
+        SELECT r.id AS id, r.description AS description, r.location AS location,
+               r.imagepath AS imagepath, r.category AS category, r.citizen.id AS citizenId,
+               r.latitude AS latitude, r.longitude AS longitude
+        FROM Report r
         WHERE r.status = :status
-        AND ST_Distance_Sphere(
-            POINT(r.longitude, r.latitude),
-            POINT(:lng, :lat)
-        ) <= :radius
-        """, nativeQuery = true)
-    List<Report> findNearbyReports(
-            @Param("status") String status,
-            @Param("lat") Double latitude,
-            @Param("lng") Double longitude,
-            @Param("radius") Double radius
-    );
+        AND r.latitude >= :minLat AND r.latitude < :maxLat
+        AND r.longitude >= :minLng AND r.longitude < :maxLng
+        """)
+    List<LocatedReport> findInBox(@Param("status") Status status,
+                                  @Param("minLat") double minLat,
+                                  @Param("maxLat") double maxLat,
+                                  @Param("minLng") double minLng,
+                                  @Param("maxLng") double maxLng);
+
+    interface LocatedReport {
+        Long getId();
+        String getDescription();
+        String getLocation();
+        String getImagepath();
+        Category getCategory();
+        Long getCitizenId();
+        Double getLatitude();
+        Double getLongitude();
+    }
+
+    // Reports still in :status that were last touched before :before, keyset-paged by id;
+    // input of the auto-assignment run
+    @Query("""
+        SELECT r.id AS id, r.latitude AS latitude, r.longitude AS longitude, r.category AS category
+        FROM Report r
+        WHERE r.status = :status AND r.id > :after AND r.lastUpdated <= :before
+        ORDER BY r.id
+        """)
+    List<WaitingReport> findWaitingAfter(@Param("status") Status status,
+                                         @Param("after") Long after,
+                                         @Param("before") LocalDateTime before,
+                                         Pageable page);
+
+    interface WaitingReport {
+        Long getId();
+        Double getLatitude();
+        Double getLongitude();
+        Category getCategory();
+    }
+
+    // Current number of reports in the given states, optionally of one category (null: all)
+    @Query("""
+        SELECT COUNT(r) FROM Report r
+        WHERE r.status IN :statuses AND (:category IS NULL OR r.category = :category)
+        """)
+    long countByStatusIn(@Param("statuses") Collection<Status> statuses, @Param("category") Category category);
+
+    // Position, category and status of every report, keyset paged; builds the hot spot counters
+    @Query("""
+        SELECT r.id AS id, r.latitude AS latitude, r.longitude AS longitude,
+               r.category AS category, r.status AS status
+        FROM Report r WHERE r.id > :after ORDER BY r.id
+        """)
+    List<ReportPoint> findPointsAfter(@Param("after") Long after, Pageable page);
+
+    interface ReportPoint {
+        Long getId();
+        Double getLatitude();
+        Double getLongitude();
+        Category getCategory();
+        Status getStatus();
+    }
+
+    // New reports after the given id, keyset paged; input of the rollup job
+    @Query("""
+        SELECT r.id AS id, r.createdAt AS createdAt, r.creationDate AS creationDate,
+               r.category AS category, r.latitude AS latitude, r.longitude AS longitude
+        FROM Report r WHERE r.id > :after ORDER BY r.id
+        """)
+    List<CreatedReport> findCreatedAfter(@Param("after") Long after, Pageable page);
+
+    interface CreatedReport {
+        Long getId();
+        LocalDateTime getCreatedAt();
+        LocalDate getCreationDate();
+        Category getCategory();
+        Double getLatitude();
+        Double getLongitude();
+    }
+
+    // Open assignments per volunteer, for load-aware matching (volunteers with none are absent)
+    @Query("""
+        SELECT r.volunteer.id AS volunteerId, COUNT(r) AS active FROM Report r
+        WHERE r.volunteer.id IN :ids AND r.status IN :statuses
+        GROUP BY r.volunteer.id
+        """)
+    List<VolunteerLoad> findLoadsByVolunteerIdIn(@Param("ids") Collection<Long> ids,
+                                                @Param("statuses") Collection<Status> statuses);
+
+    interface VolunteerLoad {
+        Long getVolunteerId();
+        Long getActive();
+    }
 
     // Conditional assign: update only if status is CREATED to avoid races
     @Modifying
@@ -40,7 +146,51 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
                        @Param("assigned") Status assigned,
                        @Param("expected") Status expected);
 
+    // Conditional status change: applies only while the report still has the status the
+    // transition was validated against and still belongs to the volunteer, so concurrent
+    // updates fail (0 rows) instead of overwriting each other
+    @Modifying
+    @Query("""
+        UPDATE Report r SET r.status = :next, r.lastUpdated = LOCAL DATETIME
+        WHERE r.id = :id AND r.volunteer = :volunteer AND r.status = :expected
+        """)
+    int updateStatusIf(@Param("id") Long id,
+                       @Param("volunteer") Volunteer volunteer,
+                       @Param("next") Status next,
+                       @Param("expected") Status expected);
+
     // Reports assigned to a volunteer (by volunteer entity id)
-    List<Report> findByVolunteerId(Long volunteerId);
+    @Query(SELECT_REPORT_DTO + "WHERE v.id = :volunteerId ORDER BY r.id")
+    List<ReportDTO> findDtosByVolunteerId(@Param("volunteerId") Long volunteerId);
+
+    // Admin keyset page: rows after the cursor id, optional filters
+    @Query(SELECT_REPORT_DTO + """
+        WHERE r.id > :after
+        AND (:status IS NULL OR r.status = :status)
+        AND (:category IS NULL OR r.category = :category)
+        AND (:from IS NULL OR r.creationDate >= :from)
+        AND (:to IS NULL OR r.creationDate <= :to)
+        ORDER BY r.id
+        """)
+    List<ReportDTO> findPageAfter(@Param("after") Long after,
+                               @Param("status") Status status,
+                               @Param("category") Category category,
+                               @Param("from") LocalDate from,
+                               @Param("to") LocalDate to,
+                               Pageable page);
+
+    // Admin export: same filters, streamed from a server-side cursor
+    @Query(SELECT_REPORT_DTO + """
+        WHERE (:status IS NULL OR r.status = :status)
+        AND (:category IS NULL OR r.category = :category)
+        AND (:from IS NULL OR r.creationDate >= :from)
+        AND (:to IS NULL OR r.creationDate <= :to)
+        ORDER BY r.id
+        """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ReportDTO> streamAll(@Param("status") Status status,
+                             @Param("category") Category category,
+                             @Param("from") LocalDate from,
+                             @Param("to") LocalDate to);
 
 }
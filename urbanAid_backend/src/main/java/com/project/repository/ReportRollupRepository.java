@@ -0,0 +1,49 @@
+package com.project.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.project.entities.Category;
+import com.project.entities.ReportRollup;
+import com.project.entities.RollupGranularity;
+
+public interface ReportRollupRepository extends JpaRepository<ReportRollup, Long> {
+
+    // Existing rows of the buckets a rollup pass is about to update
+    List<ReportRollup> findByGranularityAndBucketStartIn(RollupGranularity granularity,
+                                                         Collection<LocalDateTime> bucketStarts);
+
+    // Buckets in [from, to) summed over areas, optionally narrowed to a category and an
+    // area prefix (a shorter geohash covers all the cells inside it)
+    @Query("""
+        SELECT r.bucketStart AS bucketStart, r.category AS category,
+               SUM(r.created) AS created, SUM(r.assigned) AS assigned, SUM(r.resolved) AS resolved,
+               SUM(r.claimSeconds) AS claimSeconds, SUM(r.resolveSeconds) AS resolveSeconds
+        FROM ReportRollup r
+        WHERE r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to
+          AND (:category IS NULL OR r.category = :category)
+          AND (:area IS NULL OR r.area LIKE CONCAT(:area, '%'))
+        GROUP BY r.bucketStart, r.category
+        ORDER BY r.bucketStart, r.category
+        """)
+    List<BucketTotals> sumByBucket(@Param("granularity") RollupGranularity granularity,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to,
+                                   @Param("category") Category category,
+                                   @Param("area") String area);
+
+    interface BucketTotals {
+        LocalDateTime getBucketStart();
+        Category getCategory();
+        Long getCreated();
+        Long getAssigned();
+        Long getResolved();
+        Long getClaimSeconds();
+        Long getResolveSeconds();
+    }
+}
@@ -1,9 +1,42 @@
 package com.project.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.project.entities.Category;
+import com.project.entities.Status;
 import com.project.entities.TaskHistory;
 
 public interface TaskHistoryRepository extends JpaRepository<TaskHistory,Long> {
 
+    // Transitions into :statuses after the given id, with what the rollups need of their report
+    @Query("""
+        SELECT h.id AS id, h.newStatus AS newStatus, h.changedAt AS changedAt,
+               r.category AS category, r.latitude AS latitude, r.longitude AS longitude,
+               r.createdAt AS reportCreatedAt, r.creationDate AS reportCreationDate
+        FROM TaskHistory h JOIN h.report r
+        WHERE h.id > :after AND h.newStatus IN :statuses
+        ORDER BY h.id
+        """)
+    List<TransitionRow> findTransitionsAfter(@Param("after") Long after,
+                                             @Param("statuses") Collection<Status> statuses,
+                                             Pageable page);
+
+    interface TransitionRow {
+        Long getId();
+        Status getNewStatus();
+        LocalDateTime getChangedAt();
+        Category getCategory();
+        Double getLatitude();
+        Double getLongitude();
+        LocalDateTime getReportCreatedAt();
+        LocalDate getReportCreationDate();
+    }
 }
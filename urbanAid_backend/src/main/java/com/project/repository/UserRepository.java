@@ -1,5 +1,6 @@
 package com.project.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.project.entities.User;
@@ -12,4 +13,7 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User>  findByEmail(String email);
 
+	// Admin keyset page
+	List<User> findByIdGreaterThanOrderByIdAsc(Long after, Pageable page);
+
 }
@@ -1,10 +1,16 @@
 package com.project.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.project.entities.Volunteer;
+import com.project.entities.Vtype;
 
 public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
 
@@ -13,4 +19,27 @@ public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
 
     // find available volunteers
     Optional<Volunteer> findByMyuserEmail(String email);
+
+    // Volunteers with their user in one query (myuser is lazy)
+    @Query("SELECT v FROM Volunteer v JOIN FETCH v.myuser WHERE v.id IN :ids")
+    List<Volunteer> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Admin keyset page
+    List<Volunteer> findByIdGreaterThanOrderByIdAsc(Long after, Pageable page);
+
+    // Lightweight position rows used to build the in-memory geo index, keyset paged
+    @Query("""
+        SELECT v.id AS id, v.latitude AS latitude, v.longitude AS longitude,
+               v.availability AS availability, v.vtype AS vtype
+        FROM Volunteer v WHERE v.id > :after ORDER BY v.id
+        """)
+    List<Location> findLocationsAfter(@Param("after") Long after, Pageable page);
+
+    interface Location {
+        Long getId();
+        Double getLatitude();
+        Double getLongitude();
+        Boolean getAvailability();
+        Vtype getVtype();
+    }
 }
@@ -1,11 +1,9 @@
 package com.project.security;
 
 import java.io.IOException;
-import java.util.List;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -13,7 +11,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.dto.ApiResponse;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,7 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CustomJwtVerificationFilter extends OncePerRequestFilter {
 
-    private final JwtUtils jwtUtils;
+    private final JwtPrincipalCache principalCache;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -47,21 +44,12 @@ public class CustomJwtVerificationFilter extends OncePerRequestFilter {
                     throw new RuntimeException("Missing or malformed token string");
                 }
 
-                Claims claims = jwtUtils.validateToken(jwt);
-
-                Long userId = claims.get("user_id", Long.class);
-                String role = claims.get("user_role", String.class);
-                String email = claims.getSubject();
-
-                List<SimpleGrantedAuthority> authorities =
-                        List.of(new SimpleGrantedAuthority(role));
-
-                UserPrincipal principal =
-                        new UserPrincipal(userId, email, null, authorities);
+                // Signature is verified only the first time a token is seen
+                UserPrincipal principal = principalCache.resolve(jwt);
 
                 Authentication authentication =
                         new UsernamePasswordAuthenticationToken(
-                                principal, null, authorities);
+                                principal, null, principal.getAuthorities());
 
                 SecurityContextHolder.getContext()
                         .setAuthentication(authentication);
@@ -0,0 +1,102 @@
+package com.project.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/*
+ * Validated token -> principal cache, keyed by the SHA-256 of the token so raw
+ * tokens are never held in memory. Each entry expires with its token, so a
+ * cached principal is never served after the JWT itself has expired.
+ * Hit/miss counts are published as cache.gets{cache=jwt.principal}.
+ */
+@Component
+public class JwtPrincipalCache {
+
+    private final JwtUtils jwtUtils;
+    private final Cache<String, CachedPrincipal> cache;
+
+    private record CachedPrincipal(UserPrincipal principal, long expiresAtMillis) {
+    }
+
+    public JwtPrincipalCache(JwtUtils jwtUtils,
+                             MeterRegistry meterRegistry,
+                             @Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this.jwtUtils = jwtUtils;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, CachedPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+                        long ttlMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(ttlMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedPrincipal value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.principal");
+    }
+
+    /*
+     * Returns the principal for a token, verifying the signature only on a
+     * cache miss. Invalid tokens throw (from JwtUtils) and are never cached.
+     */
+    public UserPrincipal resolve(String jwt) {
+        String key = digest(jwt);
+        CachedPrincipal cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.principal();
+        }
+
+        Claims claims = jwtUtils.validateToken(jwt);
+
+        Long userId = claims.get("user_id", Long.class);
+        String role = claims.get("user_role", String.class);
+        String email = claims.getSubject();
+
+        UserPrincipal principal = new UserPrincipal(userId, email, null,
+                List.of(new SimpleGrantedAuthority(role)));
+
+        if (claims.getExpiration() != null) {
+            cache.put(key, new CachedPrincipal(principal, claims.getExpiration().getTime()));
+        }
+        return principal;
+    }
+
+    private static String digest(String jwt) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(jwt.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
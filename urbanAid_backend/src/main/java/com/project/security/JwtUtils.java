@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -26,10 +27,16 @@ public class JwtUtils {
 
     private SecretKey secretKey;
 
+    // Immutable and thread-safe, so one parser serves every request
+    private JwtParser parser;
+
     @PostConstruct
     public void init() {
         log.info("Initializing JWT secret key");
         secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     // Generate JWT
@@ -59,9 +66,7 @@ public class JwtUtils {
     // Validate JWT
     public Claims validateToken(String jwt) {
 
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return parser
                 .parseSignedClaims(jwt)
                 .getPayload();
     }
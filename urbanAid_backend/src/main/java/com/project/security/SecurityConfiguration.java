@@ -1,5 +1,6 @@
 package com.project.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,9 +14,12 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,6 +32,10 @@ public class SecurityConfiguration {
 
     private final CustomJwtVerificationFilter jwtFilter;
 
+    // -1: actuator shares the application port, and scrapes need a token like any other call
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
@@ -59,7 +67,13 @@ public class SecurityConfiguration {
 
                 // Preflight requests
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                // Async re-dispatch of SSE streams (already authorized on the initial request)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(HttpMethod.GET,"/reports/image/**").permitAll()
+                // Liveness probe
+                .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                // Metrics scrape, only over the management port (bound to an internal address)
+                .requestMatchers(prometheusOnManagementPort()).permitAll()
 
                 // ADMIN
                 .requestMatchers("/admin/**").hasAuthority("ROLE_ADMIN")
@@ -96,6 +110,11 @@ public class SecurityConfiguration {
         return http.build();
     }
 
+    private RequestMatcher prometheusOnManagementPort() {
+        RequestMatcher path = PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.GET, "/actuator/prometheus");
+        return request -> managementPort > 0 && request.getLocalPort() == managementPort && path.matches(request);
+    }
+
     // Authentication manager
     @Bean
     AuthenticationManager authenticationManager(AuthenticationConfiguration config)
@@ -2,37 +2,175 @@ package com.project.service;
 
 import com.project.dto.AlertRequestDto;
 import com.project.entities.Volunteer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
+/*
+ * Alerts are queued and fanned out by background workers, so the caller
+ * (POST /reports, POST /alerts) never waits on SMTP. Each worker drains a
+ * batch of alerts, picks the volunteers to notify with VolunteerMatcher
+ * (available, right type, top K by distance and load) and hands the
+ * resulting mails to the mail sender in chunks, one SMTP connection per chunk.
+ */
+@Slf4j
 @Service
 public class AlertService {
 
-    private final VolunteerService volunteerService;
+    private final VolunteerMatcher volunteerMatcher;
     private final EmailService emailService;
+    private final MeterRegistry meterRegistry;
+
+    private final int workers;
+    private final int batchSize;
+    private final BlockingQueue<Pending> queue;
+    private final List<Thread> workerThreads = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private Counter accepted;
+    private Counter rejected;
+    private Counter sent;
+    private Counter failed;
+    private DistributionSummary matched;
+    private Timer fanout;
+
+    // enqueue time rides along so fan-out latency includes the wait in the queue
+    private record Pending(AlertRequestDto request, long enqueuedNanos) {
+    }
 
-    public AlertService(VolunteerService volunteerService,
-                        EmailService emailService) {
-        this.volunteerService = volunteerService;
+    public AlertService(VolunteerMatcher volunteerMatcher,
+                        EmailService emailService,
+                        MeterRegistry meterRegistry,
+                        @Value("${alerts.queue.capacity:1000}") int capacity,
+                        @Value("${alerts.workers:2}") int workers,
+                        @Value("${alerts.batch-size:50}") int batchSize) {
+        this.volunteerMatcher = volunteerMatcher;
         this.emailService = emailService;
+        this.meterRegistry = meterRegistry;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("alerts.queue.depth", queue, BlockingQueue::size)
+                .description("Alerts waiting to be fanned out")
+                .register(meterRegistry);
+        accepted = meterRegistry.counter("alerts.accepted");
+        rejected = meterRegistry.counter("alerts.rejected");
+        sent = meterRegistry.counter("alerts.emails.sent");
+        failed = meterRegistry.counter("alerts.emails.failed");
+        matched = DistributionSummary.builder("alerts.volunteers.matched")
+                .description("Volunteers selected for each alert")
+                .register(meterRegistry);
+        fanout = Timer.builder("alerts.fanout")
+                .description("Time from accepting an alert to handing its emails to SMTP")
+                .register(meterRegistry);
+
+        for (int i = 0; i < workers; i++) {
+            workerThreads.add(Thread.ofVirtual()
+                    .name("alert-worker-" + i)
+                    .start(this::drainLoop));
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        workerThreads.forEach(Thread::interrupt);
     }
 
-    public void handleAlert(AlertRequestDto request) {
-
-        List<Volunteer> nearbyVolunteers =
-                volunteerService.findNearby(
-                        request.getLatitude(),
-                        request.getLongitude()
-                );
-
-        for (Volunteer v : nearbyVolunteers) {
-            emailService.send(
-                    v.getMyuser().getEmail(),
-                    "🚨 Alert Nearby",
-                    "A " + request.getType()
-                            + " alert has been raised near your location. Please respond if available."
-            );
+    /*
+     * Queue an alert for delivery. Returns false when the queue is full, so
+     * callers can push back instead of piling up unbounded work.
+     */
+    public boolean handleAlert(AlertRequestDto request) {
+        if (queue.offer(new Pending(request, System.nanoTime()))) {
+            accepted.increment();
+            return true;
+        }
+        rejected.increment();
+        log.warn("Alert queue full, dropping {} alert at ({}, {})",
+                request.getType(), request.getLatitude(), request.getLongitude());
+        return false;
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>();
+        while (running) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Alert fan-out failed: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<Pending> alerts) {
+        List<SimpleMailMessage> messages = new ArrayList<>();
+        for (Pending pending : alerts) {
+            AlertRequestDto request = pending.request();
+            List<Volunteer> nearbyVolunteers =
+                    volunteerMatcher.match(
+                            request.getLatitude(),
+                            request.getLongitude(),
+                            request.getCategory()
+                    );
+            matched.record(nearbyVolunteers.size());
+
+            for (Volunteer v : nearbyVolunteers) {
+                messages.add(emailService.build(
+                        v.getMyuser().getEmail(),
+                        "🚨 Alert Nearby",
+                        "A " + request.getType()
+                                + " alert has been raised near your location. Please respond if available."
+                ));
+            }
+        }
+
+        for (int from = 0; from < messages.size(); from += batchSize) {
+            List<SimpleMailMessage> chunk =
+                    messages.subList(from, Math.min(from + batchSize, messages.size()));
+            try {
+                emailService.sendBatch(chunk);
+                sent.increment(chunk.size());
+            } catch (Exception e) {
+                failed.increment(chunk.size());
+                log.error("Failed to send {} alert emails: {}", chunk.size(), e.getMessage());
+            }
+        }
+
+        long now = System.nanoTime();
+        for (Pending pending : alerts) {
+            fanout.record(now - pending.enqueuedNanos(), TimeUnit.NANOSECONDS);
         }
     }
 }
@@ -0,0 +1,174 @@
+package com.project.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.entities.JobLock;
+import com.project.entities.Status;
+import com.project.repository.JobLockRepository;
+import com.project.repository.ReportRepository;
+import com.project.util.DispatchPlanner;
+import com.project.util.VolunteerGeoIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Periodically dispatches reports nobody has claimed. Reports still CREATED
+ * after min-age are matched in one batch against available volunteers of a
+ * fitting type (DispatchPlanner over the geo index), respecting how many
+ * open assignments each volunteer may hold, and every pairing is applied
+ * through the same race-safe conditional update as a manual claim. A
+ * volunteer claiming a report in the meantime simply wins.
+ *
+ * A run holds the "auto_assign" job lock row, so with several instances the
+ * runs queue up instead of planning against the same free capacity and
+ * overbooking volunteers. Each assignment commits in its own transaction.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auto-assign.enabled", havingValue = "true", matchIfMissing = true)
+public class AutoAssigner {
+
+    private static final int PAGE_SIZE = 1000;
+    // keeps the IN list of the load query within sane statement sizes
+    private static final int LOAD_CHUNK = 1000;
+    private static final String LOCK = "auto_assign";
+
+    private final ReportRepository reportRepo;
+    private final ReportService reportService;
+    private final VolunteerGeoIndex geoIndex;
+    private final MeterRegistry meterRegistry;
+    private final JobLockRepository lockRepo;
+    // holds the job lock for the run
+    private final TransactionTemplate lockTx;
+    // one per assignment, so a failure rolls back only that pairing
+    private final TransactionTemplate assignTx;
+
+    private final long minAgeSeconds;
+    private final int maxReports;
+    private final int candidatesPerReport;
+    private final double radiusKm;
+    private final int capacity;
+
+    public AutoAssigner(ReportRepository reportRepo,
+                        ReportService reportService,
+                        VolunteerGeoIndex geoIndex,
+                        MeterRegistry meterRegistry,
+                        JobLockRepository lockRepo,
+                        PlatformTransactionManager txManager,
+                        @Value("${auto-assign.min-age-seconds:600}") long minAgeSeconds,
+                        @Value("${auto-assign.max-reports:10000}") int maxReports,
+                        @Value("${auto-assign.candidates-per-report:8}") int candidatesPerReport,
+                        @Value("${auto-assign.radius-km:10}") double radiusKm,
+                        @Value("${auto-assign.volunteer-capacity:3}") int capacity) {
+        this.reportRepo = reportRepo;
+        this.reportService = reportService;
+        this.geoIndex = geoIndex;
+        this.meterRegistry = meterRegistry;
+        this.lockRepo = lockRepo;
+        this.lockTx = new TransactionTemplate(txManager);
+        this.assignTx = new TransactionTemplate(txManager);
+        this.assignTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        if (maxReports <= 0) {
+            throw new IllegalArgumentException(
+                    "auto-assign.max-reports must be positive (use auto-assign.enabled=false to turn it off)");
+        }
+        this.minAgeSeconds = minAgeSeconds;
+        this.maxReports = maxReports;
+        this.candidatesPerReport = candidatesPerReport;
+        this.radiusKm = radiusKm;
+        this.capacity = capacity;
+    }
+
+    @Scheduled(initialDelayString = "${auto-assign.interval-ms:60000}",
+               fixedDelayString = "${auto-assign.interval-ms:60000}")
+    public void run() {
+        lockTx.executeWithoutResult(status -> {
+            lockRepo.findForUpdate(LOCK).orElseGet(() -> lockRepo.saveAndFlush(new JobLock(LOCK)));
+            dispatch();
+        });
+    }
+
+    private void dispatch() {
+        List<DispatchPlanner.Job> jobs = waitingJobs();
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<DispatchPlanner.Assignment> plan = DispatchPlanner.plan(
+                jobs, geoIndex, candidatesPerReport, radiusKm, this::remainingCapacity);
+        sample.stop(meterRegistry.timer("auto.assign.plan"));
+
+        int assigned = 0;
+        int lost = 0;
+        for (DispatchPlanner.Assignment a : plan) {
+            try {
+                if (Boolean.TRUE.equals(assignTx.execute(
+                        status -> reportService.autoAssign(a.reportId(), a.volunteerId())))) {
+                    assigned++;
+                } else {
+                    lost++;
+                }
+            } catch (Exception e) {
+                lost++;
+                log.warn("Auto-assigning report {} to volunteer {} failed: {}",
+                        a.reportId(), a.volunteerId(), e.getMessage());
+            }
+        }
+        meterRegistry.counter("auto.assign.assigned").increment(assigned);
+        meterRegistry.counter("auto.assign.lost").increment(lost);
+        meterRegistry.summary("auto.assign.waiting").record(jobs.size());
+        log.info("Auto-assignment: {} waiting, {} planned, {} assigned, {} lost",
+                jobs.size(), plan.size(), assigned, lost);
+    }
+
+    private List<DispatchPlanner.Job> waitingJobs() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(minAgeSeconds);
+        List<DispatchPlanner.Job> jobs = new ArrayList<>();
+        long after = 0;
+        List<ReportRepository.WaitingReport> page;
+        do {
+            page = reportRepo.findWaitingAfter(Status.CREATED, after, before,
+                    PageRequest.of(0, Math.min(PAGE_SIZE, maxReports - jobs.size())));
+            for (ReportRepository.WaitingReport r : page) {
+                after = r.getId();
+                if (r.getLatitude() != null && r.getLongitude() != null) {
+                    jobs.add(new DispatchPlanner.Job(r.getId(), r.getLatitude(), r.getLongitude(),
+                            VolunteerMatcher.typesFor(r.getCategory())));
+                }
+            }
+        } while (page.size() == PAGE_SIZE && jobs.size() < maxReports);
+        return jobs;
+    }
+
+    // capacity minus open assignments, one grouped count per chunk of volunteers
+    private Map<Long, Integer> remainingCapacity(Collection<Long> volunteerIds) {
+        Map<Long, Integer> free = new HashMap<>();
+        List<Long> ids = new ArrayList<>(volunteerIds);
+        for (Long id : ids) {
+            free.put(id, capacity);
+        }
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK) {
+            reportRepo.findLoadsByVolunteerIdIn(ids.subList(from, Math.min(from + LOAD_CHUNK, ids.size())),
+                            VolunteerMatcher.OPEN)
+                    .forEach(l -> free.put(l.getVolunteerId(), capacity - l.getActive().intValue()));
+        }
+        return free;
+    }
+}
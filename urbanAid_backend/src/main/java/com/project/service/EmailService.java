@@ -1,9 +1,13 @@
 package com.project.service;
 
+import java.util.List;
+
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AllArgsConstructor;
 
 @Service
@@ -11,16 +15,44 @@ import lombok.AllArgsConstructor;
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+
 
-   
 
     public void send(String to, String subject, String body) {
 
+        timed("single", 1, () -> mailSender.send(build(to, subject, body)));
+    }
+
+    public SimpleMailMessage build(String to, String subject, String body) {
+
         SimpleMailMessage msg = new SimpleMailMessage();
         msg.setTo(to);
         msg.setSubject(subject);
         msg.setText(body);
+        return msg;
+    }
+
+    // All messages go out over a single SMTP connection
+    public void sendBatch(List<SimpleMailMessage> messages) {
+
+        if (messages.isEmpty()) {
+            return;
+        }
+        timed("batch", messages.size(),
+                () -> mailSender.send(messages.toArray(new SimpleMailMessage[0])));
+    }
 
-        mailSender.send(msg);
+    // email.send timer per SMTP call, email.messages counts what went out or failed
+    private void timed(String mode, int count, Runnable send) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            send.run();
+            outcome = "success";
+        } finally {
+            sample.stop(meterRegistry.timer("email.send", "mode", mode, "outcome", outcome));
+            meterRegistry.counter("email.messages", "outcome", outcome).increment(count);
+        }
     }
 }
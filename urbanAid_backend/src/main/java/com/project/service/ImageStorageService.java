@@ -0,0 +1,261 @@
+package com.project.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.project.custom_exceptions.InvalidInputException;
+import com.project.custom_exceptions.ResourceNotFoundException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Content-addressed image store: files are named by the SHA-256 of their bytes,
+ * so identical uploads share one file and every URL is immutable (the hash is
+ * also the ETag). The multipart spool file lives under the same root and is
+ * renamed into place, never copied a second time.
+ */
+@Slf4j
+@Service
+public class ImageStorageService {
+
+    public static final String URL_PREFIX = "reports/image/";
+
+    private static final byte[] PNG = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n' };
+    private static final byte[] JPEG = { (byte) 0xff, (byte) 0xd8, (byte) 0xff };
+    private static final byte[] GIF87 = { 'G', 'I', 'F', '8', '7', 'a' };
+    private static final byte[] GIF89 = { 'G', 'I', 'F', '8', '9', 'a' };
+    private static final byte[] RIFF = { 'R', 'I', 'F', 'F' };
+    private static final byte[] WEBP = { 'W', 'E', 'B', 'P' };
+
+    // <64 hex chars>.<ext>, anything else is rejected before touching the disk
+    private static final Pattern NAME = Pattern.compile("[0-9a-f]{64}\\.(jpg|png|gif|webp)");
+
+    private final Path originals;
+    private final Path thumbs;
+    private final int thumbWidth;
+    private final long maxPixels;
+
+    // one in-flight thumbnail generation per image; later callers wait on its result
+    private final Map<String, CompletableFuture<Path>> thumbsInFlight = new ConcurrentHashMap<>();
+
+    public ImageStorageService(@Value("${images.root:uploads/reports}") String root,
+                               @Value("${images.thumbnail-width:320}") int thumbWidth,
+                               @Value("${images.max-pixels:40000000}") long maxPixels) throws IOException {
+        // absolute, so MultipartFile.transferTo(File) renames the spool file instead of copying
+        this.originals = Files.createDirectories(Path.of(root, "originals").toAbsolutePath());
+        this.thumbs = Files.createDirectories(Path.of(root, "thumbs").toAbsolutePath());
+        this.thumbWidth = thumbWidth;
+        this.maxPixels = maxPixels;
+    }
+
+    /*
+     * Stores the upload and returns its relative URL (reports/image/<hash>.<ext>).
+     * The format comes from the file's leading bytes, not the client's content
+     * type, and images over max-pixels are refused before anything decodes them.
+     */
+    public String store(MultipartFile image) throws IOException {
+        String ext;
+        try (InputStream in = image.getInputStream()) {
+            ext = sniffExtension(in.readNBytes(12));
+        }
+        if (ext == null) {
+            throw new InvalidInputException("Only JPEG, PNG, GIF or WebP images are allowed");
+        }
+        try (ImageInputStream in = ImageIO.createImageInputStream(image.getInputStream())) {
+            if (pixels(in) > maxPixels) {
+                throw new InvalidInputException("Image dimensions are too large");
+            }
+        }
+
+        String name = sha256(image) + "." + ext;
+        Path target = originals.resolve(name);
+        if (Files.notExists(target)) {
+            // rename of the spooled part into a temp name, then atomic move into place
+            Path tmp = originals.resolve(name + "." + UUID.randomUUID() + ".part");
+            try {
+                image.transferTo(tmp.toFile());
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.deleteIfExists(tmp);
+                if (Files.notExists(target)) {
+                    throw e;
+                }
+                // a concurrent upload of the same bytes won the race
+            }
+        }
+        return URL_PREFIX + name;
+    }
+
+    public Path original(String name) {
+        Path p = originals.resolve(checkName(name));
+        if (Files.notExists(p)) {
+            throw new ResourceNotFoundException("Image not found");
+        }
+        return p;
+    }
+
+    /*
+     * Thumbnail of at most thumbnail-width pixels, generated on first request
+     * and kept on disk. Formats ImageIO can't decode fall back to the original.
+     */
+    public Path thumbnail(String name) {
+        Path source = original(name);
+        Path thumb = thumbs.resolve(name.substring(0, name.indexOf('.')) + ".jpg");
+        if (Files.exists(thumb)) {
+            return thumb;
+        }
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> running = thumbsInFlight.putIfAbsent(name, mine);
+        if (running != null) {
+            return running.join();
+        }
+        try {
+            mine.complete(Files.exists(thumb) || generateThumbnail(source, thumb) ? thumb : source);
+        } catch (Exception e) {
+            log.warn("Thumbnail generation failed for {}: {}", name, e.getMessage());
+            mine.complete(source);
+        } finally {
+            // no-op unless an Error escaped; waiters must never hang on the future
+            mine.complete(source);
+            // only after completion, so no second generation starts while this one runs
+            thumbsInFlight.remove(name, mine);
+        }
+        return mine.join();
+    }
+
+    private boolean generateThumbnail(Path source, Path thumb) throws IOException {
+        BufferedImage img;
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            ImageReader reader = reader(in);
+            if (reader == null) {
+                return false;
+            }
+            try {
+                // header only: originals stored before the upload check are not trusted either
+                int w = reader.getWidth(0);
+                long pixels = (long) w * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("Not decoding {} for a thumbnail: {} pixels", source.getFileName(), pixels);
+                    return false;
+                }
+                // decode every n-th pixel only; plenty for a thumbWidth-wide result
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, w / (thumbWidth * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                img = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+        int width = Math.min(thumbWidth, img.getWidth());
+        int height = Math.max(1, img.getHeight() * width / img.getWidth());
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(img, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+
+        Path tmp = Files.createTempFile(thumbs, "thumb-", ".part");
+        ImageIO.write(scaled, "jpg", tmp.toFile());
+        Files.move(tmp, thumb, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+
+    // width * height from the header, 0 for formats ImageIO has no reader for (WebP)
+    private static long pixels(ImageInputStream in) throws IOException {
+        ImageReader reader = reader(in);
+        if (reader == null) {
+            return 0;
+        }
+        try {
+            return (long) reader.getWidth(0) * reader.getHeight(0);
+        } catch (IOException e) {
+            throw new InvalidInputException("Image could not be read");
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private static ImageReader reader(ImageInputStream in) {
+        if (in == null) {
+            return null;
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+        if (!readers.hasNext()) {
+            return null;
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(in, true, true);
+        return reader;
+    }
+
+    static String sniffExtension(byte[] head) {
+        if (startsWith(head, 0, PNG)) {
+            return "png";
+        }
+        if (startsWith(head, 0, JPEG)) {
+            return "jpg";
+        }
+        if (startsWith(head, 0, GIF87) || startsWith(head, 0, GIF89)) {
+            return "gif";
+        }
+        if (startsWith(head, 0, RIFF) && startsWith(head, 8, WEBP)) {
+            return "webp";
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] head, int offset, byte[] magic) {
+        return head.length >= offset + magic.length
+                && Arrays.equals(head, offset, offset + magic.length, magic, 0, magic.length);
+    }
+
+    private static String checkName(String name) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new ResourceNotFoundException("Image not found");
+        }
+        return name;
+    }
+
+    private static String sha256(MultipartFile image) throws IOException {
+        try (InputStream in = new DigestInputStream(image.getInputStream(), MessageDigest.getInstance("SHA-256"))) {
+            byte[] buf = new byte[64 * 1024];
+            while (in.read(buf) != -1) {
+                // reading drives the digest
+            }
+            return HexFormat.of().formatHex(((DigestInputStream) in).getMessageDigest().digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.project.entities.UserType;
+import com.project.util.AfterCommit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * In-memory fan-out of server-sent events, per recipient.
+ * An idle SSE connection is just an async servlet response parked in a map,
+ * no thread is held. Sends run on virtual threads so a slow client never
+ * blocks the publisher.
+ */
+@Slf4j
+@Component
+public class NotificationHub {
+
+    private record Recipient(UserType type, Long id) {
+    }
+
+    private final Map<Recipient, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final long timeoutMs;
+
+    public NotificationHub(MeterRegistry meterRegistry,
+                           @Value("${notifications.sse.timeout-ms:1800000}") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+        Gauge.builder("notifications.sse.connections", connections, AtomicInteger::get)
+                .description("Open notification streams")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(UserType type, Long recipientId) {
+        Recipient key = new Recipient(type, recipientId);
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+
+        subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(emitter);
+        connections.incrementAndGet();
+
+        Runnable cleanup = () -> remove(key, emitter);
+        emitter.onCompletion(cleanup);
+        emitter.onTimeout(cleanup);
+        emitter.onError(e -> cleanup.run());
+        return emitter;
+    }
+
+    /*
+     * Push an event to every open stream of the recipient. Inside a
+     * transaction the event goes out only after commit.
+     */
+    public void publish(UserType type, Long recipientId, String eventName, Object payload) {
+        if (recipientId == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            Set<SseEmitter> emitters = subscribers.get(new Recipient(type, recipientId));
+            if (emitters == null || emitters.isEmpty()) {
+                return;
+            }
+            for (SseEmitter emitter : emitters) {
+                sender.execute(() -> send(emitter, SseEmitter.event().name(eventName).data(payload)));
+            }
+        });
+    }
+
+    // Comment line every 30s keeps proxies from closing idle streams and flushes out dead ones
+    @Scheduled(fixedDelay = 30_000)
+    public void heartbeat() {
+        subscribers.values().forEach(emitters ->
+                emitters.forEach(emitter ->
+                        sender.execute(() -> send(emitter, SseEmitter.event().comment("keep-alive")))));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // client went away; completing triggers the cleanup callback
+            log.debug("Dropping SSE stream: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Recipient key, SseEmitter emitter) {
+        subscribers.computeIfPresent(key, (k, emitters) -> {
+            if (emitters.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,17 @@
+package com.project.service;
+
+import java.util.List;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.project.dto.NotificationDTO;
+import com.project.entities.UserType;
+
+public interface NotificationService {
+
+    // Latest notifications of the logged-in citizen / volunteer (by their user id)
+    List<NotificationDTO> getMyNotifications(Long userId, UserType role);
+
+    // Live stream of notifications and report status changes
+    SseEmitter subscribe(Long userId, UserType role);
+}
@@ -0,0 +1,54 @@
+package com.project.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.project.custom_exceptions.ResourceNotFoundException;
+import com.project.dto.NotificationDTO;
+import com.project.entities.UserType;
+import com.project.entities.Volunteer;
+import com.project.mapper.NotificationMapper;
+import com.project.repository.NotificationRepository;
+import com.project.repository.VolunteerRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class NotificationServiceImpl implements NotificationService {
+
+    private final NotificationRepository notificationRepo;
+    private final VolunteerRepository volunteerRepo;
+    private final NotificationMapper notificationMapper;
+    private final NotificationHub hub;
+
+    @Override
+    public List<NotificationDTO> getMyNotifications(Long userId, UserType role) {
+
+        return notificationRepo
+                .findTop50ByRecipientTypeAndRecipientIdOrderByIdDesc(role, recipientId(userId, role))
+                .stream()
+                .map(notificationMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId, UserType role) {
+
+        return hub.subscribe(role, recipientId(userId, role));
+    }
+
+    // Citizens are addressed by user id, volunteers by their Volunteer id
+    private Long recipientId(Long userId, UserType role) {
+        if (role != UserType.ROLE_VOLUNTEER) {
+            return userId;
+        }
+        Volunteer volunteer = volunteerRepo.findByMyuserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Volunteer not found"));
+        return volunteer.getId();
+    }
+}
@@ -0,0 +1,207 @@
+package com.project.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.entities.Notification;
+import com.project.entities.OutboxChannel;
+import com.project.entities.OutboxMessage;
+import com.project.entities.OutboxStatus;
+import com.project.mapper.NotificationMapper;
+import com.project.repository.NotificationRepository;
+import com.project.repository.OutboxMessageRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Polls the outbox and delivers due messages in batches.
+ * Each poll first claims its batch: the rows are flipped to IN_FLIGHT with a
+ * lease in one conditional UPDATE, so relays on other instances skip them.
+ * A relay that dies mid-batch leaves rows IN_FLIGHT; once the lease runs out
+ * they are due again and the next poll re-claims them.
+ * Notifications are inserted in one transaction together with their SENT
+ * marker; emails go out over one SMTP connection per batch and only the
+ * messages the server rejected are retried, with exponential backoff.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxMessageRepository outboxRepo;
+    private final NotificationRepository notificationRepo;
+    private final EmailService emailService;
+    private final TransactionTemplate tx;
+    private final NotificationHub hub;
+    private final NotificationMapper notificationMapper;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.backoff-base-ms:2000}")
+    private long backoffBaseMs;
+
+    // longer than the slowest batch delivery, or a batch may be sent twice
+    @Value("${outbox.relay.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${outbox.retention.sent-days:7}")
+    private int sentRetentionDays;
+
+    @Value("${outbox.retention.failed-days:30}")
+    private int failedRetentionDays;
+
+    @Value("${outbox.retention.batch-size:1000}")
+    private int purgeBatchSize;
+
+    private static final List<OutboxStatus> CLAIMABLE = List.of(OutboxStatus.PENDING, OutboxStatus.IN_FLIGHT);
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void relay() {
+        List<OutboxMessage> due = claim();
+        if (due.isEmpty()) {
+            return;
+        }
+
+        List<OutboxMessage> notifications = new ArrayList<>();
+        List<OutboxMessage> emails = new ArrayList<>();
+        for (OutboxMessage m : due) {
+            (m.getChannel() == OutboxChannel.NOTIFICATION ? notifications : emails).add(m);
+        }
+
+        if (!notifications.isEmpty()) {
+            deliverNotifications(notifications);
+        }
+        if (!emails.isEmpty()) {
+            deliverEmails(emails);
+        }
+    }
+
+    private List<OutboxMessage> claim() {
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = tx.execute(status -> {
+            List<Long> ids = outboxRepo.findDueIds(CLAIMABLE, now, PageRequest.of(0, batchSize));
+            return ids.isEmpty() ? 0 : outboxRepo.claim(ids, CLAIMABLE, now, OutboxStatus.IN_FLIGHT,
+                    token, now.plusSeconds(leaseSeconds));
+        });
+        return claimed == null || claimed == 0 ? List.of() : outboxRepo.findByClaimTokenOrderByIdAsc(token);
+    }
+
+    /*
+     * Delivered rows are only kept for troubleshooting; FAILED ones longer, as
+     * they may need a manual resend. Deleted in batches so a large backlog does
+     * not hold locks on the table for one long statement.
+     */
+    @Scheduled(cron = "${outbox.retention.cron:0 15 * * * *}")
+    public void purge() {
+        int sent = purge(OutboxStatus.SENT, sentRetentionDays);
+        int failed = purge(OutboxStatus.FAILED, failedRetentionDays);
+        if (sent + failed > 0) {
+            log.info("Outbox purge removed {} sent and {} failed messages", sent, failed);
+        }
+    }
+
+    private int purge(OutboxStatus status, int retentionDays) {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        while (true) {
+            List<Long> ids = outboxRepo.findIdsToPurge(status, before, PageRequest.of(0, purgeBatchSize));
+            if (ids.isEmpty()) {
+                return total;
+            }
+            tx.executeWithoutResult(s -> outboxRepo.deleteAllByIdInBatch(ids));
+            total += ids.size();
+        }
+    }
+
+    private void deliverNotifications(List<OutboxMessage> batch) {
+        List<Notification> saved;
+        try {
+            saved = tx.execute(status -> {
+                List<Notification> rows = new ArrayList<>(batch.size());
+                for (OutboxMessage m : batch) {
+                    Notification n = new Notification();
+                    n.setMessage(OutboxService.truncate(m.getBody(), 300));
+                    n.setRecipientType(m.getRecipientType());
+                    n.setRecipientId(m.getRecipientId());
+                    n.setReportId(m.getReportId());
+                    n.setType(m.getNotificationType());
+                    rows.add(n);
+                    m.setStatus(OutboxStatus.SENT);
+                }
+                outboxRepo.saveAll(batch);
+                return notificationRepo.saveAll(rows);
+            });
+        } catch (Exception e) {
+            log.error("Outbox notification batch of {} failed: {}", batch.size(), e.getMessage());
+            batch.forEach(m -> retryLater(m, e));
+            outboxRepo.saveAll(batch);
+            return;
+        }
+
+        // committed: push to any open streams of the recipients
+        for (Notification n : saved) {
+            hub.publish(n.getRecipientType(), n.getRecipientId(), "notification", notificationMapper.toDto(n));
+        }
+    }
+
+    private void deliverEmails(List<OutboxMessage> batch) {
+        Map<SimpleMailMessage, OutboxMessage> byMail = new IdentityHashMap<>();
+        for (OutboxMessage m : batch) {
+            byMail.put(emailService.build(m.getRecipientEmail(), m.getSubject(), m.getBody()), m);
+        }
+
+        try {
+            emailService.sendBatch(new ArrayList<>(byMail.keySet()));
+            batch.forEach(m -> m.setStatus(OutboxStatus.SENT));
+        } catch (MailSendException e) {
+            // Only the rejected messages are retried, the rest were delivered
+            Map<Object, Exception> failed = e.getFailedMessages();
+            byMail.forEach((mail, m) -> {
+                if (failed.containsKey(mail)) {
+                    retryLater(m, failed.get(mail));
+                } else {
+                    m.setStatus(OutboxStatus.SENT);
+                }
+            });
+            if (failed.isEmpty()) {
+                batch.forEach(m -> retryLater(m, e));
+            }
+        } catch (Exception e) {
+            batch.forEach(m -> retryLater(m, e));
+        }
+        outboxRepo.saveAll(batch);
+    }
+
+    private void retryLater(OutboxMessage m, Exception cause) {
+        int attempts = m.getAttempts() + 1;
+        m.setStatus(OutboxStatus.PENDING);
+        m.setAttempts(attempts);
+        m.setLastError(OutboxService.truncate(String.valueOf(cause.getMessage()), 500));
+        if (attempts >= maxAttempts) {
+            m.setStatus(OutboxStatus.FAILED);
+            log.warn("Outbox message {} failed permanently after {} attempts", m.getId(), attempts);
+            return;
+        }
+        long delayMs = backoffBaseMs << Math.min(attempts - 1, 16);
+        m.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(delayMs)));
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.entities.NotificationType;
+import com.project.entities.OutboxChannel;
+import com.project.entities.OutboxMessage;
+import com.project.entities.OutboxStatus;
+import com.project.entities.UserType;
+import com.project.repository.OutboxMessageRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Records side effects in the caller's transaction. Nothing is delivered
+ * here; OutboxRelay picks the rows up once the transaction has committed.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxMessageRepository outboxRepo;
+
+    public void queueNotification(UserType recipientType, Long recipientId, Long reportId,
+                                  NotificationType type, String message) {
+
+        OutboxMessage m = pending(OutboxChannel.NOTIFICATION, message);
+        m.setRecipientType(recipientType);
+        m.setRecipientId(recipientId);
+        m.setReportId(reportId);
+        m.setNotificationType(type);
+        outboxRepo.save(m);
+    }
+
+    public void queueEmail(String to, String subject, String body) {
+
+        if (to == null || to.isBlank()) {
+            return;
+        }
+        OutboxMessage m = pending(OutboxChannel.EMAIL, body);
+        m.setRecipientEmail(to);
+        m.setSubject(subject);
+        outboxRepo.save(m);
+    }
+
+    private OutboxMessage pending(OutboxChannel channel, String body) {
+        OutboxMessage m = new OutboxMessage();
+        m.setChannel(channel);
+        m.setStatus(OutboxStatus.PENDING);
+        m.setBody(truncate(body, 500));
+        m.setAttempts(0);
+        m.setNextAttemptAt(LocalDateTime.now());
+        return m;
+    }
+
+    static String truncate(String s, int max) {
+        return s != null && s.length() > max ? s.substring(0, max) : s;
+    }
+}
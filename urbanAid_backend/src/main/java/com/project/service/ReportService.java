@@ -1,10 +1,16 @@
 package com.project.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.project.dto.CreateReportDTO;
+import com.project.dto.CursorPage;
+import com.project.dto.HotSpotDTO;
 import com.project.dto.ReportDTO;
+import com.project.dto.ReportFilterDTO;
+import com.project.entities.Category;
 import com.project.entities.Status;
+import com.project.util.BoundingBox;
 
 public interface ReportService {
 
@@ -13,15 +19,20 @@ public interface ReportService {
     List<ReportDTO> getReportsByCitizen(Long citizenId);
 
     // Volunteer
-    List<ReportDTO> getNearbyUnassignedReports(Long volunteerId);
+    List<ReportDTO> getNearbyUnassignedReports(Long volunteerId, int limit, Double maxRadiusKm);
     ReportDTO claimReport(Long reportId, Long volunteerId);
     ReportDTO updateReportStatus(Long reportId, Status status, Long volunteerId);
 
+    // Automatic dispatch (by volunteer entity id); false when the report was taken meanwhile
+    boolean autoAssign(Long reportId, Long volunteerEntityId);
+
     // Reports assigned to a volunteer (by their user id)
     List<ReportDTO> getReportsByVolunteer(Long volunteerMyUserId);
 
     // Admin
-    List<ReportDTO> getAllReports();
+    CursorPage<ReportDTO> getReportsPage(ReportFilterDTO filter, Long after, int size);
+    void exportReports(ReportFilterDTO filter, Consumer<ReportDTO> sink);
+    List<HotSpotDTO> getHotSpots(int precision, BoundingBox viewport, Status status, Category category);
 
     // Single report lookup
     ReportDTO getReportById(Long reportId);
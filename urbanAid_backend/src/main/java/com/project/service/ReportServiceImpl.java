@@ -1,9 +1,13 @@
 package com.project.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.project.custom_exceptions.AuthenticationFailedException;
@@ -12,20 +16,32 @@ import com.project.custom_exceptions.ResourceConflictException;
 import com.project.custom_exceptions.ResourceNotFoundException;
 import com.project.dto.AlertRequestDto;
 import com.project.dto.CreateReportDTO;
+import com.project.dto.CursorPage;
+import com.project.dto.HotSpotDTO;
 import com.project.dto.ReportDTO;
-import com.project.entities.Notification;
+import com.project.dto.ReportFilterDTO;
+import com.project.entities.Category;
+import com.project.entities.NotificationType;
 import com.project.entities.Report;
 import com.project.entities.Status;
 import com.project.entities.User;
 import com.project.entities.UserType;
 import com.project.entities.Volunteer;
-import com.project.repository.NotificationRepository;
+import com.project.mapper.ReportMapper;
 import com.project.repository.ReportRepository;
 import com.project.repository.UserRepository;
 import com.project.repository.VolunteerRepository;
+import com.project.util.AfterCommit;
+import com.project.util.BoundingBox;
+import com.project.util.HotSpotIndex;
+import com.project.util.OpenReportCache;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -34,17 +50,32 @@ public class ReportServiceImpl implements ReportService {
     private final ReportRepository reportRepo;
     private final UserRepository userRepo;
     private final VolunteerRepository volunteerRepo;
-    private final NotificationRepository notificationRepo;
-    private final ModelMapper mapper;
-    private final EmailService emailService;
+    private final ReportMapper reportMapper;
+    private final OutboxService outboxService;
+    private final NotificationHub hub;
     private final AlertService alertService;
+    private final OpenReportCache openReports;
+    private final TaskHistoryRecorder taskHistory;
+    private final HotSpotIndex hotSpots;
+    private final MeterRegistry meterRegistry;
 
 
-    private static final double NEARBY_RADIUS_METERS = 5000.0; // 5 KM
+    // nearby search starts at 1 km and doubles until it has `limit` reports
+    private static final double NEARBY_START_RADIUS_METERS = 1000.0;
+    private static final double NEARBY_DEFAULT_MAX_RADIUS_METERS = 25_000.0;
+    private static final double NEARBY_HARD_MAX_RADIUS_METERS = 50_000.0;
+    private static final int MAX_NEARBY_LIMIT = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    // task_history actor for automatic assignments (no user behind them)
+    private static final long SYSTEM_ACTOR_ID = 0L;
 
     // Citizen creates a report
     @Override
     public ReportDTO createReport(CreateReportDTO dto, Long citizenId) {
+        return timed("reports.create", () -> create(dto, citizenId));
+    }
+
+    private ReportDTO create(CreateReportDTO dto, Long citizenId) {
 
         User citizen = userRepo.findById(citizenId)
                 .orElseThrow(() ->
@@ -54,7 +85,7 @@ public class ReportServiceImpl implements ReportService {
             throw new InvalidInputException("Location cannot be empty");
         }
 
-        Report report = mapper.map(dto, Report.class);
+        Report report = reportMapper.toEntity(dto);
         report.setCitizen(citizen);
         report.setStatus(Status.CREATED);
         // Ensure imagepath isn't null to avoid DB constraint issues
@@ -62,19 +93,39 @@ public class ReportServiceImpl implements ReportService {
             report.setImagepath("");
         }
         
-        //send email
+        Report saved = reportRepo.save(report);
+        ReportDTO created = reportMapper.toDto(saved);
+        openReports.added(saved, created);
+        hotSpots.added(saved);
+
+        //queue alert email for nearby volunteers once the report is committed;
+        //matching and SMTP run on AlertService workers, outside this transaction
         AlertRequestDto dt=new AlertRequestDto();
         dt.setLatitude(dto.getLatitude());
         dt.setLongitude(dto.getLongitude());
         dt.setType(dto.getDescription());
-        alertService.handleAlert(dt);
-        
-        return mapper.map(reportRepo.save(report), ReportDTO.class);
+        dt.setCategory(dto.getCategory());
+        //a full alert queue drops the alert; the report itself is kept
+        Long reportId = saved.getId();
+        AfterCommit.run(() -> {
+            if (!alertService.handleAlert(dt)) {
+                meterRegistry.counter("reports.alerts.dropped", "category", String.valueOf(dto.getCategory())).increment();
+                log.warn("Report {} saved but its volunteer alert was dropped (alert queue full)", reportId);
+            }
+        });
+        return created;
     }
 
-    // Volunteer views nearby unassigned reports 5 KM
+    // Volunteer views the nearest unassigned reports, closest first
     @Override
-    public List<ReportDTO> getNearbyUnassignedReports(Long volunteerId) {
+    @Transactional(readOnly = true)
+    public List<ReportDTO> getNearbyUnassignedReports(Long volunteerId, int limit, Double maxRadiusKm) {
+        List<ReportDTO> nearby = timed("reports.nearby", () -> findNearby(volunteerId, limit, maxRadiusKm));
+        meterRegistry.summary("reports.nearby.results").record(nearby.size());
+        return nearby;
+    }
+
+    private List<ReportDTO> findNearby(Long volunteerId, int limit, Double maxRadiusKm) {
 
         Volunteer volunteer = volunteerRepo.findByMyuserId(volunteerId)
                 .orElseThrow(() ->
@@ -84,21 +135,36 @@ public class ReportServiceImpl implements ReportService {
             throw new InvalidInputException("Volunteer is not available");
         }
 
-        List<Report> reports = reportRepo.findNearbyReports(
-                Status.CREATED.name(),
-                volunteer.getLatitude(),
-                volunteer.getLongitude(),
-                NEARBY_RADIUS_METERS
-        );
-
-        return reports.stream()
-                .map(r -> mapper.map(r, ReportDTO.class))
-                .toList();
+        int lim = Math.max(1, Math.min(limit, MAX_NEARBY_LIMIT));
+        double maxRadius = maxRadiusKm == null
+                ? NEARBY_DEFAULT_MAX_RADIUS_METERS
+                : Math.max(100.0, Math.min(maxRadiusKm * 1000, NEARBY_HARD_MAX_RADIUS_METERS));
+
+        // Expanding rings over the cached grid cells: dense areas are answered
+        // from the few cells around the volunteer, sparse areas widen (loading
+        // further cells once) until they have enough or hit maxRadius
+        double lat = volunteer.getLatitude();
+        double lng = volunteer.getLongitude();
+        double radius = Math.min(NEARBY_START_RADIUS_METERS, maxRadius);
+        int rings = 1;
+        List<ReportDTO> reports = openReports.nearest(lat, lng, radius, lim);
+        while (reports.size() < lim && radius < maxRadius) {
+            radius = Math.min(radius * 2, maxRadius);
+            rings++;
+            reports = openReports.nearest(lat, lng, radius, lim);
+        }
+        meterRegistry.summary("reports.nearby.rings").record(rings);
+        return reports;
     }
 
     //  Volunteer self-claims a report
+    // outcome=conflict on the timer is the lost-race rate of assignIfStatus
     @Override
     public ReportDTO claimReport(Long reportId, Long volunteerId) {
+        return timed("reports.claim", () -> claim(reportId, volunteerId));
+    }
+
+    private ReportDTO claim(Long reportId, Long volunteerId) {
 
         Volunteer volunteer = volunteerRepo.findByMyuserId(volunteerId)
                 .orElseThrow(() ->
@@ -108,83 +174,107 @@ public class ReportServiceImpl implements ReportService {
             throw new InvalidInputException("Volunteer not available");
         }
 
+        Report claimed = assign(reportId, volunteer, "%s has claimed your report: %s");
+        if (claimed == null) {
+            throw new ResourceConflictException("Report already assigned or closed");
+        }
+        taskHistory.record(reportId, Status.CREATED, Status.ASSIGNED, UserType.ROLE_VOLUNTEER, volunteerId);
+
+        ReportDTO dto = reportMapper.toDto(claimed);
+        publishStatus(dto);
+        return dto;
+    }
+
+    // Assignment chosen by AutoAssigner; audited as done by the system
+    @Override
+    public boolean autoAssign(Long reportId, Long volunteerEntityId) {
+
+        Volunteer volunteer = volunteerRepo.findById(volunteerEntityId).orElse(null);
+        if (volunteer == null || !volunteer.isAvailability()) {
+            return false;
+        }
+
+        Report assigned = assign(reportId, volunteer, "%s has been assigned to your report: %s");
+        if (assigned == null) {
+            return false;
+        }
+        taskHistory.record(reportId, Status.CREATED, Status.ASSIGNED, UserType.ROLE_ADMIN, SYSTEM_ACTOR_ID);
+        publishStatus(reportMapper.toDto(assigned));
+        return true;
+    }
+
+    /*
+     * CREATED -> ASSIGNED for one volunteer, plus the notifications and emails
+     * for both sides. Returns null when the report is no longer CREATED.
+     */
+    private Report assign(Long reportId, Volunteer volunteer, String citizenFormat) {
+
         // Use a conditional update to make the claim operation race-safe. The repository
         // executes an UPDATE ... WHERE id=:id AND status=:expected and returns the
         // number of rows affected. If 0 rows were updated, someone else claimed it.
         int updated = reportRepo.assignIfStatus(reportId, volunteer, Status.ASSIGNED, Status.CREATED);
         if (updated == 0) {
-            throw new ResourceConflictException("Report already assigned or closed");
+            return null;
         }
 
         // fetch the updated report and return it
         Report updatedReport = reportRepo.findById(reportId)
                 .orElseThrow(() -> new ResourceNotFoundException("Report not found after assign"));
-
-        // Create notifications for citizen and volunteer
-        try {
-            // Message for citizen
-            String volName = volunteer.getMyuser() != null ? volunteer.getMyuser().getName() : "A volunteer";
-            String citizenMsg = String.format("%s has claimed your report: %s", volName, (updatedReport.getDescription() != null ? updatedReport.getDescription().split("\\n")[0] : "Report"));
-
-            Notification n1 = new com.project.entities.Notification();
-            n1.setMessage(citizenMsg);
-            n1.setRecipientType(UserType.ROLE_CITIZEN);
-            n1.setRecipientId(updatedReport.getCitizen().getId());
-            n1.setReportId(updatedReport.getId());
-            n1.setType(com.project.entities.NotificationType.ASSIGNMENT);
-            notificationRepo.save(n1);
-
-            // Message for volunteer
-            String volunteerMsg = String.format("You have been assigned to: %s", (updatedReport.getDescription() != null ? updatedReport.getDescription().split("\\n")[0] : "Report"));
-            Notification n2 = new Notification();
-            n2.setMessage(volunteerMsg);
-            n2.setRecipientType(UserType.ROLE_VOLUNTEER);
-            n2.setRecipientId(volunteer.getId());
-            n2.setReportId(updatedReport.getId());
-            n2.setType(com.project.entities.NotificationType.ASSIGNMENT);
-            notificationRepo.save(n2);
-
-            // Send emails (best-effort)
-            try {
-                if (updatedReport.getCitizen() != null && updatedReport.getCitizen().getEmail() != null) {
-                    emailService.send(updatedReport.getCitizen().getEmail(), "Your report has been claimed", citizenMsg);
-                }
-                if (volunteer.getMyuser() != null && volunteer.getMyuser().getEmail() != null) {
-                    emailService.send(volunteer.getMyuser().getEmail(), "You have a new assignment", volunteerMsg);
-                }
-            } catch (Exception e) {
-                // swallow email errors (non-critical)
-                e.printStackTrace();
-            }
-        } catch (Exception e) {
-            // Ensure notifications do not prevent the claim — log and continue
-            e.printStackTrace();
+        openReports.removed(updatedReport);
+        hotSpots.moved(updatedReport, Status.CREATED, Status.ASSIGNED);
+
+        // Record notifications and emails in the outbox; they are delivered by
+        // OutboxRelay after this transaction commits, with retries on failure
+        String volName = volunteer.getMyuser() != null ? volunteer.getMyuser().getName() : "A volunteer";
+        String title = updatedReport.getDescription() != null ? updatedReport.getDescription().split("\\n")[0] : "Report";
+        String citizenMsg = String.format(citizenFormat, volName, title);
+        String volunteerMsg = String.format("You have been assigned to: %s", title);
+
+        outboxService.queueNotification(UserType.ROLE_CITIZEN, updatedReport.getCitizen().getId(),
+                updatedReport.getId(), NotificationType.ASSIGNMENT, citizenMsg);
+        outboxService.queueNotification(UserType.ROLE_VOLUNTEER, volunteer.getId(),
+                updatedReport.getId(), NotificationType.ASSIGNMENT, volunteerMsg);
+
+        outboxService.queueEmail(updatedReport.getCitizen().getEmail(), "Your report has been claimed", citizenMsg);
+        if (volunteer.getMyuser() != null) {
+            outboxService.queueEmail(volunteer.getMyuser().getEmail(), "You have a new assignment", volunteerMsg);
         }
+        return updatedReport;
+    }
 
-        return mapper.map(updatedReport, ReportDTO.class);
+    // Live status event for the report's citizen and volunteer (sent after commit)
+    private void publishStatus(ReportDTO dto) {
+        hub.publish(UserType.ROLE_CITIZEN, dto.getCitizenId(), "report-status", dto);
+        hub.publish(UserType.ROLE_VOLUNTEER, dto.getVolunteerId(), "report-status", dto);
     }
 
     // Reports assigned to a volunteer (by their user id)
     @Override
+    @Transactional(readOnly = true)
     public List<ReportDTO> getReportsByVolunteer(Long volunteerMyUserId) {
         Volunteer volunteer = volunteerRepo.findByMyuserId(volunteerMyUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("Volunteer not found"));
 
-        List<Report> reports = reportRepo.findByVolunteerId(volunteer.getId());
-        return reports.stream().map(r -> mapper.map(r, ReportDTO.class)).toList();
+        return reportRepo.findDtosByVolunteerId(volunteer.getId());
     }
 
     // Single report lookup
     @Override
+    @Transactional(readOnly = true)
     public ReportDTO getReportById(Long reportId) {
         Report report = reportRepo.findById(reportId)
                 .orElseThrow(() -> new ResourceNotFoundException("Report not found"));
-        return mapper.map(report, ReportDTO.class);
+        return reportMapper.toDto(report);
     }
 
     // Volunteer updates report status
+    // outcome=conflict on the timer counts updates that lost a race
     @Override
     public ReportDTO updateReportStatus(Long reportId, Status status, Long volunteerId) {
+        return timed("reports.status", () -> changeStatus(reportId, status, volunteerId));
+    }
+
+    private ReportDTO changeStatus(Long reportId, Status status, Long volunteerId) {
 
         Report report = reportRepo.findById(reportId)
                 .orElseThrow(() ->
@@ -198,36 +288,95 @@ public class ReportServiceImpl implements ReportService {
                     "You are not authorized to update this report");
         }
 
-        if (status == Status.CREATED) {
-            throw new InvalidInputException("Invalid status transition");
+        Status old = report.getStatus();
+        if (status == old) {
+            // repeated request, nothing to change
+            return reportMapper.toDto(report);
+        }
+        if (!old.canMoveTo(status)) {
+            throw new InvalidInputException("Invalid status transition " + old + " -> " + status);
         }
 
-        report.setStatus(status);
-
-        return mapper.map(reportRepo.save(report), ReportDTO.class);
+        // Compare-and-set on the status checked above: one UPDATE, no row lock
+        // held across the request; a concurrent change makes it match nothing
+        int updated = reportRepo.updateStatusIf(reportId, report.getVolunteer(), status, old);
+        if (updated == 0) {
+            throw new ResourceConflictException("Report was updated concurrently, reload and retry");
+        }
+        openReports.removed(report);
+        hotSpots.moved(report, old, status);
+        taskHistory.record(reportId, old, status, UserType.ROLE_VOLUNTEER, volunteerId);
+
+        ReportDTO dto = reportMapper.toDto(report);
+        dto.setStatus(status);
+        publishStatus(dto);
+        return dto;
     }
 
     //  Citizen views own reports
     @Override
+    @Transactional(readOnly = true)
     public List<ReportDTO> getReportsByCitizen(Long citizenId) {
 
         if (!userRepo.existsById(citizenId)) {
             throw new ResourceNotFoundException("Citizen not found");
         }
 
-        return reportRepo.findByCitizenId(citizenId)
-                .stream()
-                .map(r -> mapper.map(r, ReportDTO.class))
-                .toList();
+        return reportRepo.findDtosByCitizenId(citizenId);
     }
 
-    // Admin monitoring (read-only)
+    // Admin monitoring (read-only), one keyset page at a time
     @Override
-    public List<ReportDTO> getAllReports() {
+    @Transactional(readOnly = true)
+    public CursorPage<ReportDTO> getReportsPage(ReportFilterDTO filter, Long after, int size) {
+
+        int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        List<ReportDTO> rows = reportRepo.findPageAfter(
+                after == null ? 0L : after,
+                filter.getStatus(), filter.getCategory(), filter.getFrom(), filter.getTo(),
+                PageRequest.of(0, limit + 1));
+
+        boolean hasMore = rows.size() > limit;
+        List<ReportDTO> items = hasMore ? rows.subList(0, limit) : rows;
+        Long next = hasMore ? items.get(items.size() - 1).getId() : null;
+        return new CursorPage<>(items, next);
+    }
+
+    // Admin export: streams DTO rows straight off the DB cursor, nothing is
+    // kept in the persistence context however large the table is
+    @Override
+    @Transactional(readOnly = true)
+    public void exportReports(ReportFilterDTO filter, Consumer<ReportDTO> sink) {
+
+        try (Stream<ReportDTO> rows = reportRepo.streamAll(
+                filter.getStatus(), filter.getCategory(), filter.getFrom(), filter.getTo())) {
+            rows.forEach(sink);
+        }
+    }
 
-        return reportRepo.findAll()
-                .stream()
-                .map(r -> mapper.map(r, ReportDTO.class))
-                .toList();
+    // Admin heat map, served from the in-memory counters (no transaction, no connection)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<HotSpotDTO> getHotSpots(int precision, BoundingBox viewport, Status status, Category category) {
+        return hotSpots.query(precision, viewport, status, category);
+    }
+
+    /*
+     * Times an operation, tagged outcome=success|conflict|error, so latency and
+     * failure rates can be read from the same meter.
+     */
+    private <T> T timed(String name, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = action.get();
+            outcome = "success";
+            return result;
+        } catch (ResourceConflictException e) {
+            outcome = "conflict";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(name, "outcome", outcome));
+        }
     }
 }
@@ -0,0 +1,234 @@
+package com.project.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.entities.Category;
+import com.project.entities.ReportRollup;
+import com.project.entities.RollupGranularity;
+import com.project.entities.RollupWatermark;
+import com.project.entities.Status;
+import com.project.repository.ReportRepository;
+import com.project.repository.ReportRollupRepository;
+import com.project.repository.RollupWatermarkRepository;
+import com.project.repository.TaskHistoryRepository;
+import com.project.util.HotSpotIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Folds new reports and status transitions into the hourly and daily
+ * report_rollup rows the admin statistics are served from.
+ *
+ * Each source (report, task_history) is read incrementally after the id in
+ * its watermark row. A page is aggregated in memory and merged into the
+ * affected rollup rows in the same transaction that advances the watermarks,
+ * so a failed pass leaves nothing half counted. The watermarks are locked for
+ * the duration, which also keeps two instances from running a pass at once.
+ *
+ * Ids are assigned at insert but become visible at commit, so a page stops at
+ * the first row younger than settle-seconds: a slower transaction holding a
+ * smaller id gets that long to commit before the watermark passes it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rollups.enabled", havingValue = "true", matchIfMissing = true)
+public class RollupJob {
+
+    static final String REPORTS = "report";
+    static final String TRANSITIONS = "task_history";
+    // areas are geohash cells of ~5 km
+    static final int AREA_PRECISION = 5;
+
+    // ASSIGNED ends the wait for a volunteer, RESOLVED (after COMPLETED) closes the report
+    private static final Set<Status> COUNTED = EnumSet.of(Status.ASSIGNED, Status.RESOLVED);
+    private static final RollupGranularity[] GRANULARITIES = RollupGranularity.values();
+
+    private final ReportRepository reportRepo;
+    private final TaskHistoryRepository historyRepo;
+    private final ReportRollupRepository rollupRepo;
+    private final RollupWatermarkRepository watermarkRepo;
+    private final TransactionTemplate tx;
+    private final MeterRegistry meterRegistry;
+
+    private final int pageSize;
+    private final long settleSeconds;
+
+    public RollupJob(ReportRepository reportRepo,
+                     TaskHistoryRepository historyRepo,
+                     ReportRollupRepository rollupRepo,
+                     RollupWatermarkRepository watermarkRepo,
+                     TransactionTemplate tx,
+                     MeterRegistry meterRegistry,
+                     @Value("${rollups.page-size:5000}") int pageSize,
+                     @Value("${rollups.settle-seconds:60}") long settleSeconds) {
+        this.reportRepo = reportRepo;
+        this.historyRepo = historyRepo;
+        this.rollupRepo = rollupRepo;
+        this.watermarkRepo = watermarkRepo;
+        this.tx = tx;
+        this.meterRegistry = meterRegistry;
+        this.pageSize = pageSize;
+        this.settleSeconds = settleSeconds;
+    }
+
+    @Scheduled(initialDelayString = "${rollups.interval-ms:60000}",
+               fixedDelayString = "${rollups.interval-ms:60000}")
+    public void run() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long events = 0;
+        Pass pass;
+        do {
+            pass = tx.execute(status -> step());
+            events += pass.events();
+        } while (pass.more());
+        sample.stop(meterRegistry.timer("rollups.run"));
+        meterRegistry.counter("rollups.events").increment(events);
+        if (events > 0) {
+            log.info("Rollups updated with {} events", events);
+        }
+    }
+
+    private record Pass(long events, boolean more) {
+    }
+
+    // One page of each source, merged and committed together with the watermarks
+    private Pass step() {
+        RollupWatermark reports = lock(REPORTS);
+        RollupWatermark transitions = lock(TRANSITIONS);
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(settleSeconds);
+        Deltas deltas = new Deltas();
+        long events = 0;
+
+        List<ReportRepository.CreatedReport> created =
+                reportRepo.findCreatedAfter(reports.getLastId(), PageRequest.of(0, pageSize));
+        boolean moreReports = created.size() == pageSize;
+        for (ReportRepository.CreatedReport r : created) {
+            LocalDateTime at = createdAt(r.getCreatedAt(), r.getCreationDate());
+            if (at.isAfter(cutoff)) {
+                moreReports = false;
+                break;
+            }
+            deltas.add(at, r.getCategory(), area(r.getLatitude(), r.getLongitude()), Deltas.CREATED, 1);
+            reports.setLastId(r.getId());
+            events++;
+        }
+
+        List<TaskHistoryRepository.TransitionRow> moved =
+                historyRepo.findTransitionsAfter(transitions.getLastId(), COUNTED, PageRequest.of(0, pageSize));
+        boolean moreTransitions = moved.size() == pageSize;
+        for (TaskHistoryRepository.TransitionRow h : moved) {
+            if (h.getChangedAt().isAfter(cutoff)) {
+                moreTransitions = false;
+                break;
+            }
+            String area = area(h.getLatitude(), h.getLongitude());
+            long seconds = Math.max(0, Duration.between(
+                    createdAt(h.getReportCreatedAt(), h.getReportCreationDate()), h.getChangedAt()).getSeconds());
+            if (h.getNewStatus() == Status.ASSIGNED) {
+                deltas.add(h.getChangedAt(), h.getCategory(), area, Deltas.ASSIGNED, 1);
+                deltas.add(h.getChangedAt(), h.getCategory(), area, Deltas.CLAIM_SECONDS, seconds);
+            } else {
+                deltas.add(h.getChangedAt(), h.getCategory(), area, Deltas.RESOLVED, 1);
+                deltas.add(h.getChangedAt(), h.getCategory(), area, Deltas.RESOLVE_SECONDS, seconds);
+            }
+            transitions.setLastId(h.getId());
+            events++;
+        }
+
+        deltas.mergeInto(rollupRepo);
+        watermarkRepo.saveAll(List.of(reports, transitions));
+        return new Pass(events, moreReports || moreTransitions);
+    }
+
+    private RollupWatermark lock(String name) {
+        return watermarkRepo.findForUpdate(name)
+                .orElseGet(() -> watermarkRepo.saveAndFlush(new RollupWatermark(name)));
+    }
+
+    // rows from before the createdAt column only know their day
+    private static LocalDateTime createdAt(LocalDateTime createdAt, LocalDate creationDate) {
+        return createdAt != null ? createdAt : creationDate.atStartOfDay();
+    }
+
+    private static String area(double lat, double lng) {
+        return HotSpotIndex.geohash(lat, lng, AREA_PRECISION);
+    }
+
+    // Pending increments per rollup row, for every granularity
+    private static final class Deltas {
+
+        static final int CREATED = 0;
+        static final int ASSIGNED = 1;
+        static final int RESOLVED = 2;
+        static final int CLAIM_SECONDS = 3;
+        static final int RESOLVE_SECONDS = 4;
+
+        private record Key(RollupGranularity granularity, LocalDateTime bucketStart, Category category, String area) {
+        }
+
+        private final Map<Key, long[]> sums = new HashMap<>();
+
+        void add(LocalDateTime at, Category category, String area, int field, long amount) {
+            for (RollupGranularity g : GRANULARITIES) {
+                sums.computeIfAbsent(new Key(g, g.bucketOf(at), category, area), k -> new long[5])[field] += amount;
+            }
+        }
+
+        void mergeInto(ReportRollupRepository repo) {
+            if (sums.isEmpty()) {
+                return;
+            }
+            List<ReportRollup> changed = new ArrayList<>(sums.size());
+            for (RollupGranularity g : GRANULARITIES) {
+                Set<LocalDateTime> buckets = new HashSet<>();
+                sums.keySet().forEach(k -> {
+                    if (k.granularity() == g) {
+                        buckets.add(k.bucketStart());
+                    }
+                });
+                Map<Key, ReportRollup> existing = new HashMap<>();
+                for (ReportRollup row : repo.findByGranularityAndBucketStartIn(g, buckets)) {
+                    existing.put(new Key(g, row.getBucketStart(), row.getCategory(), row.getArea()), row);
+                }
+                sums.forEach((k, v) -> {
+                    if (k.granularity() != g) {
+                        return;
+                    }
+                    ReportRollup row = existing.get(k);
+                    if (row == null) {
+                        row = new ReportRollup();
+                        row.setGranularity(g);
+                        row.setBucketStart(k.bucketStart());
+                        row.setCategory(k.category());
+                        row.setArea(k.area());
+                    }
+                    row.setCreated(row.getCreated() + v[CREATED]);
+                    row.setAssigned(row.getAssigned() + v[ASSIGNED]);
+                    row.setResolved(row.getResolved() + v[RESOLVED]);
+                    row.setClaimSeconds(row.getClaimSeconds() + v[CLAIM_SECONDS]);
+                    row.setResolveSeconds(row.getResolveSeconds() + v[RESOLVE_SECONDS]);
+                    changed.add(row);
+                });
+            }
+            repo.saveAll(changed);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.service;
+
+import java.time.LocalDateTime;
+
+import com.project.dto.StatsDTO;
+import com.project.entities.Category;
+import com.project.entities.RollupGranularity;
+
+public interface StatsService {
+
+    // Admin dashboard statistics, read from the rollup tables only
+    StatsDTO getStats(RollupGranularity granularity, LocalDateTime from, LocalDateTime to,
+                      Category category, String area);
+}
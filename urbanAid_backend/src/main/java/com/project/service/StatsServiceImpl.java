@@ -0,0 +1,77 @@
+package com.project.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.custom_exceptions.InvalidInputException;
+import com.project.dto.RollupDTO;
+import com.project.dto.StatsDTO;
+import com.project.entities.Category;
+import com.project.entities.RollupGranularity;
+import com.project.entities.Status;
+import com.project.repository.ReportRepository;
+import com.project.repository.ReportRollupRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class StatsServiceImpl implements StatsService {
+
+    private final ReportRollupRepository rollupRepo;
+    private final ReportRepository reportRepo;
+
+    // waiting for a volunteer or being worked on
+    private static final Set<Status> OPEN = EnumSet.of(Status.CREATED, Status.ASSIGNED, Status.IN_PROGRESS);
+
+    // default window when from is not given, and the widest one allowed
+    private static final int DEFAULT_DAYS = 30;
+    private static final int MAX_HOUR_DAYS = 31;
+    private static final int MAX_DAY_DAYS = 366;
+
+    @Override
+    public StatsDTO getStats(RollupGranularity granularity, LocalDateTime from, LocalDateTime to,
+                             Category category, String area) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = granularity.bucketOf(from != null ? from : end.minusDays(DEFAULT_DAYS));
+        if (!start.isBefore(end)) {
+            throw new InvalidInputException("from must be before to");
+        }
+        int maxDays = granularity == RollupGranularity.HOUR ? MAX_HOUR_DAYS : MAX_DAY_DAYS;
+        if (start.plusDays(maxDays).isBefore(end)) {
+            throw new InvalidInputException("At most " + maxDays + " days of " + granularity + " statistics per request");
+        }
+        String areaPrefix = area == null || area.isBlank() ? null : area.trim().toLowerCase();
+
+        List<RollupDTO> rows = new ArrayList<>();
+        long created = 0, assigned = 0, resolved = 0, claimSeconds = 0, resolveSeconds = 0;
+        for (ReportRollupRepository.BucketTotals b : rollupRepo.sumByBucket(granularity, start, end, category, areaPrefix)) {
+            rows.add(toDto(b.getBucketStart(), b.getCategory(), b.getCreated(), b.getAssigned(), b.getResolved(),
+                    b.getClaimSeconds(), b.getResolveSeconds()));
+            created += b.getCreated();
+            assigned += b.getAssigned();
+            resolved += b.getResolved();
+            claimSeconds += b.getClaimSeconds();
+            resolveSeconds += b.getResolveSeconds();
+        }
+        RollupDTO totals = toDto(null, null, created, assigned, resolved, claimSeconds, resolveSeconds);
+        return new StatsDTO(granularity, start, end, rows, totals, reportRepo.countByStatusIn(OPEN, category));
+    }
+
+    private static RollupDTO toDto(LocalDateTime bucketStart, Category category, long created, long assigned,
+                                   long resolved, long claimSeconds, long resolveSeconds) {
+        return new RollupDTO(bucketStart, category, created, assigned, resolved,
+                meanMinutes(claimSeconds, assigned), meanMinutes(resolveSeconds, resolved));
+    }
+
+    private static Double meanMinutes(long seconds, long count) {
+        return count == 0 ? null : seconds / 60.0 / count;
+    }
+}
@@ -0,0 +1,177 @@
+package com.project.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.project.entities.Status;
+import com.project.entities.UserType;
+import com.project.util.AfterCommit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Append-only audit trail of report status transitions (task_history),
+ * written behind the request. A transition is queued in memory once its
+ * transaction commits and a single writer inserts the queue in JDBC batches,
+ * so auditing adds no database round trip to claim / status update.
+ *
+ * Plain JDBC rather than TaskHistoryRepository.saveAll: the rows are never
+ * read back, and Hibernate can't batch inserts of IDENTITY-keyed entities.
+ * Rows still queued at shutdown are flushed; a crash can lose at most the
+ * last linger-ms worth of transitions.
+ */
+@Slf4j
+@Service
+public class TaskHistoryRecorder {
+
+    private static final String INSERT = """
+        INSERT INTO task_history
+            (report_id, old_status, new_status, changed_by_type, changed_by_id,
+             changed_at, creation_date, last_updated)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbc;
+    private final MeterRegistry meterRegistry;
+
+    private final int batchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<Transition> queue;
+    private Thread writer;
+    private volatile boolean running = true;
+
+    private Counter written;
+    private Counter failed;
+    private Counter overflow;
+
+    private record Transition(long reportId, Status oldStatus, Status newStatus,
+                              UserType changedByType, long changedById, LocalDateTime changedAt) {
+    }
+
+    public TaskHistoryRecorder(JdbcTemplate jdbc,
+                               MeterRegistry meterRegistry,
+                               @Value("${task-history.queue.capacity:10000}") int capacity,
+                               @Value("${task-history.batch-size:200}") int batchSize,
+                               @Value("${task-history.linger-ms:200}") long lingerMs) {
+        this.jdbc = jdbc;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    void start() {
+        Gauge.builder("task.history.queue.depth", queue, BlockingQueue::size)
+                .description("Status transitions waiting to be written")
+                .register(meterRegistry);
+        written = meterRegistry.counter("task.history.written");
+        failed = meterRegistry.counter("task.history.failed");
+        overflow = meterRegistry.counter("task.history.overflow");
+
+        writer = Thread.ofVirtual()
+                .name("task-history-writer")
+                .start(this::drainLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        // the writer notices within a second; whatever it left behind is flushed here
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        List<Transition> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int from = 0; from < rest.size(); from += batchSize) {
+            write(rest.subList(from, Math.min(from + batchSize, rest.size())));
+        }
+    }
+
+    /*
+     * Records a transition once the current transaction commits; a rolled-back
+     * update leaves no trace. Only when the queue is full does the caller
+     * write its own row, which keeps memory bounded under overload.
+     */
+    public void record(long reportId, Status oldStatus, Status newStatus,
+                       UserType changedByType, long changedById) {
+        Transition t = new Transition(reportId, oldStatus, newStatus,
+                changedByType, changedById, LocalDateTime.now());
+        AfterCommit.run(() -> {
+            if (!queue.offer(t)) {
+                overflow.increment();
+                write(List.of(t));
+            }
+        });
+    }
+
+    private void drainLoop() {
+        List<Transition> batch = new ArrayList<>();
+        while (running) {
+            try {
+                Transition first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // linger briefly so a trickle of updates still shares one batch
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long left = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || left <= 0) {
+                        break;
+                    }
+                    Transition next = queue.poll(left, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Transition> batch) {
+        try {
+            jdbc.batchUpdate(INSERT, batch, batch.size(), this::bind);
+            written.increment(batch.size());
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            log.error("Failed to write {} task history rows: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private void bind(PreparedStatement ps, Transition t) throws SQLException {
+        Timestamp at = Timestamp.valueOf(t.changedAt());
+        ps.setLong(1, t.reportId());
+        ps.setString(2, t.oldStatus().name());
+        ps.setString(3, t.newStatus().name());
+        ps.setString(4, t.changedByType().name());
+        ps.setLong(5, t.changedById());
+        ps.setTimestamp(6, at);
+        ps.setObject(7, LocalDate.from(t.changedAt()));
+        ps.setTimestamp(8, at);
+    }
+}
@@ -1,8 +1,7 @@
 package com.project.service;
 
-import java.util.List;
-
 import com.project.dto.CreateUserDTO;
+import com.project.dto.CursorPage;
 import com.project.dto.UserDTO;
 
 public interface UserService {
@@ -11,7 +10,8 @@ public interface UserService {
 
     UserDTO getUserById(Long id);
     
-    List<UserDTO> listAllUsers();
+    // Admin keyset page
+    CursorPage<UserDTO> listUsersPage(Long after, int size);
 
     // Development helper: update password for a user identified by email
     void updatePasswordByEmail(String email, String newPassword);
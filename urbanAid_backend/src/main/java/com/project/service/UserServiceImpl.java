@@ -2,14 +2,17 @@ package com.project.service;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.project.dto.CreateUserDTO;
+import com.project.dto.CursorPage;
 import com.project.dto.UserDTO;
 import com.project.entities.User;
+import com.project.mapper.UserMapper;
 import com.project.repository.UserRepository;
 
 import lombok.AllArgsConstructor;
@@ -20,43 +23,59 @@ import lombok.AllArgsConstructor;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRespo;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+
+    private static final int MAX_PAGE_SIZE = 500;
    
+    // BCrypt takes ~0.5s of CPU: hash outside a transaction so no pooled
+    // connection is held meanwhile; save() runs in its own short transaction
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDTO createUser(CreateUserDTO dto) {
 
-        User user = modelMapper.map(dto, User.class);
+        User user = userMapper.toEntity(dto);
 
         user.setPassword(passwordEncoder.encode(dto.getPassword()));
 
         User savedUser = userRespo.save(user);
 
-        return modelMapper.map(savedUser, UserDTO.class);
+        return userMapper.toDto(savedUser);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDTO getUserById(Long id) {
         User user = userRespo.findById(id)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        return modelMapper.map(user, UserDTO.class);
+        return userMapper.toDto(user);
     }
     
     @Override
-    public List<UserDTO> listAllUsers() {
+    @Transactional(readOnly = true)
+    public CursorPage<UserDTO> listUsersPage(Long after, int size) {
+
+        int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        List<User> rows = userRespo.findByIdGreaterThanOrderByIdAsc(
+                after == null ? 0L : after, PageRequest.of(0, limit + 1));
 
-        return userRespo.findAll()
-                .stream()
-                .map(entity -> modelMapper.map(entity, UserDTO.class))
+        boolean hasMore = rows.size() > limit;
+        List<UserDTO> items = rows.stream()
+                .limit(limit)
+                .map(userMapper::toDto)
                 .toList();
+        return new CursorPage<>(items, hasMore ? items.get(items.size() - 1).getId() : null);
     }
 
+    // Hashed before any connection is taken, like createUser
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updatePasswordByEmail(String email, String newPassword) {
+        String hash = passwordEncoder.encode(newPassword);
         User user = userRespo.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(hash);
         userRespo.save(user);
     }
 
@@ -0,0 +1,122 @@
+package com.project.service;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.project.entities.Category;
+import com.project.entities.Status;
+import com.project.entities.Volunteer;
+import com.project.entities.Vtype;
+import com.project.repository.ReportRepository;
+import com.project.repository.VolunteerRepository;
+import com.project.util.VolunteerGeoIndex;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Picks who gets alerted for an incident: available volunteers whose type
+ * fits the report category, ranked by distance plus a penalty per open
+ * assignment, top K only.
+ *
+ * Candidate search and distances come from the in-memory geo index; the
+ * database is hit twice, both bounded by K: one grouped count of open
+ * assignments for the nearest few candidates, one fetch of the winners.
+ */
+@Slf4j
+@Service
+public class VolunteerMatcher {
+
+    private static final Map<Category, Set<Vtype>> TYPES_BY_CATEGORY = new EnumMap<>(Category.class);
+    // statuses that count as a volunteer's open assignments
+    static final Set<Status> OPEN = EnumSet.of(Status.ASSIGNED, Status.IN_PROGRESS);
+
+    static {
+        // generalists can take anything; specialists where their skills apply
+        TYPES_BY_CATEGORY.put(Category.ROADS, EnumSet.of(Vtype.GENERAL_HELP, Vtype.INFRASTRUCTURE_SUPPORT));
+        TYPES_BY_CATEGORY.put(Category.ELECTRICITY,
+                EnumSet.of(Vtype.GENERAL_HELP, Vtype.TECHNICAL_SUPPORT, Vtype.INFRASTRUCTURE_SUPPORT));
+        TYPES_BY_CATEGORY.put(Category.WATER_SUPPLY,
+                EnumSet.of(Vtype.GENERAL_HELP, Vtype.INFRASTRUCTURE_SUPPORT, Vtype.TECHNICAL_SUPPORT));
+        TYPES_BY_CATEGORY.put(Category.WASTE_MANAGEMENT, EnumSet.of(Vtype.GENERAL_HELP, Vtype.ENVIRONMENT_SUPPORT));
+        TYPES_BY_CATEGORY.put(Category.PUBLIC_SAFETY,
+                EnumSet.of(Vtype.GENERAL_HELP, Vtype.SAFETY_SUPPORT, Vtype.FIRST_AID, Vtype.DISASTER_RESPONSE));
+        TYPES_BY_CATEGORY.put(Category.ENVIRONMENT, EnumSet.of(Vtype.GENERAL_HELP, Vtype.ENVIRONMENT_SUPPORT));
+        TYPES_BY_CATEGORY.put(Category.ANIMAL_CARE, EnumSet.of(Vtype.GENERAL_HELP, Vtype.ANIMAL_RESCUE));
+        TYPES_BY_CATEGORY.put(Category.SANITATION, EnumSet.of(Vtype.GENERAL_HELP, Vtype.ENVIRONMENT_SUPPORT));
+    }
+
+    private final VolunteerGeoIndex geoIndex;
+    private final VolunteerRepository volunteerRepo;
+    private final ReportRepository reportRepo;
+
+    private final int topK;
+    private final double radiusKm;
+    private final double loadPenaltyMeters;
+
+    public VolunteerMatcher(VolunteerGeoIndex geoIndex,
+                            VolunteerRepository volunteerRepo,
+                            ReportRepository reportRepo,
+                            @Value("${alerts.match.top-k:10}") int topK,
+                            @Value("${alerts.match.radius-km:5}") double radiusKm,
+                            @Value("${alerts.match.load-penalty-km:2}") double loadPenaltyKm) {
+        this.geoIndex = geoIndex;
+        this.volunteerRepo = volunteerRepo;
+        this.reportRepo = reportRepo;
+        this.topK = topK;
+        this.radiusKm = radiusKm;
+        this.loadPenaltyMeters = loadPenaltyKm * 1000;
+    }
+
+    public static Set<Vtype> typesFor(Category category) {
+        return category == null ? EnumSet.allOf(Vtype.class) : TYPES_BY_CATEGORY.get(category);
+    }
+
+    /*
+     * Best volunteers for an incident at (lat, lng), best first, with their
+     * user loaded. A null category matches every volunteer type.
+     */
+    public List<Volunteer> match(double lat, double lng, Category category) {
+        List<VolunteerGeoIndex.Candidate> candidates =
+                geoIndex.findCandidates(lat, lng, radiusKm, typesFor(category));
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        // load only matters between similarly close volunteers: look at the
+        // nearest few times K, not at everyone in range
+        List<VolunteerGeoIndex.Candidate> nearest = candidates.stream()
+                .sorted(Comparator.comparingDouble(VolunteerGeoIndex.Candidate::distanceMeters))
+                .limit(topK * 4L)
+                .toList();
+
+        Map<Long, Long> load = new HashMap<>();
+        reportRepo.findLoadsByVolunteerIdIn(
+                nearest.stream().map(VolunteerGeoIndex.Candidate::volunteerId).toList(), OPEN)
+                .forEach(l -> load.put(l.getVolunteerId(), l.getActive()));
+
+        List<Long> winners = nearest.stream()
+                .sorted(Comparator.comparingDouble(c ->
+                        c.distanceMeters() + loadPenaltyMeters * load.getOrDefault(c.volunteerId(), 0L)))
+                .limit(topK)
+                .map(VolunteerGeoIndex.Candidate::volunteerId)
+                .toList();
+
+        // keep the ranking order, the IN query doesn't
+        Map<Long, Volunteer> byId = volunteerRepo.findAllWithUserByIdIn(winners).stream()
+                .collect(Collectors.toMap(Volunteer::getId, Function.identity()));
+        log.debug("Matched {} of {} candidates for {} at ({}, {})",
+                winners.size(), candidates.size(), category, lat, lng);
+        return winners.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+}
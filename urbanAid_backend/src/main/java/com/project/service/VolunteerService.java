@@ -2,6 +2,7 @@ package com.project.service;
 
 import java.util.List;
 
+import com.project.dto.CursorPage;
 import com.project.dto.VolunteerDTO;
 import com.project.entities.Volunteer;
 
@@ -13,7 +14,8 @@ public interface VolunteerService {
 
     VolunteerDTO getVolunteerByUserId(Long userId);
 
-    List<VolunteerDTO> listAllVolunteers();
+    // Admin keyset page
+    CursorPage<VolunteerDTO> listVolunteersPage(Long after, int size);
 
     VolunteerDTO updateAvailability(Long volunteerId, boolean availability);
     List<Volunteer> findNearby(double lat, double lon);
@@ -2,19 +2,23 @@ package com.project.service;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.project.custom_exceptions.InvalidInputException;
 import com.project.custom_exceptions.ResourceNotFoundException;
+import com.project.dto.CursorPage;
 import com.project.dto.VolunteerDTO;
 import com.project.entities.User;
 import com.project.entities.UserType;
 import com.project.entities.Volunteer;
+import com.project.mapper.UserMapper;
+import com.project.mapper.VolunteerMapper;
 import com.project.repository.VolunteerRepository;
-import com.project.util.DistanceUtil;
+import com.project.util.VolunteerGeoIndex;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -22,67 +26,83 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class VolunteerServiceImpl implements VolunteerService {
 
-    private final DistanceUtil distanceUtil;
+    private final VolunteerGeoIndex geoIndex;
 
     private final VolunteerRepository volunteerRepo;
-    private final ModelMapper mapper;
+    private final VolunteerMapper volunteerMapper;
+    private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
 
+    private static final double NEARBY_RADIUS_KM = 5.0;
+    private static final int MAX_PAGE_SIZE = 500;
 
     // 1️ Register Volunteer (Creates User + Volunteer)
+    // No surrounding transaction: the password hash is computed without holding a
+    // pooled connection, save() persists user and volunteer in one short transaction
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public VolunteerDTO registerVolunteer(VolunteerDTO dto) {
         if (dto.getUser() == null) {
             throw new InvalidInputException("User details are required");
         }
 
         // 1. Create and encrypt the User
-        User user = mapper.map(dto.getUser(), User.class);
+        User user = userMapper.toEntity(dto.getUser());
         user.setUserType(UserType.ROLE_VOLUNTEER);
         user.setPassword(passwordEncoder.encode(user.getPassword()));
 
         // 2. Map the Volunteer (this brings in latitude, vtype, area, etc.)
-        Volunteer volunteer = mapper.map(dto, Volunteer.class);
+        Volunteer volunteer = volunteerMapper.toEntity(dto);
         
         // 3. Manually link the User to the 'myuser' field in your Entity
         volunteer.setMyuser(user); 
 
         // 4. Save (Cascade PERSIST handles saving the 'user' entity automatically)
         Volunteer savedVolunteer = volunteerRepo.save(volunteer);
+        geoIndex.upsert(savedVolunteer);
 
         // 5. Return the saved object mapped back to DTO
-        return mapper.map(savedVolunteer, VolunteerDTO.class);
+        return volunteerMapper.toDto(savedVolunteer);
     }
     // 2️ Get Volunteer by ID
     @Override
+    @Transactional(readOnly = true)
     public VolunteerDTO getVolunteerById(Long id) {
 
         Volunteer volunteer = volunteerRepo.findById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Volunteer not found"));
 
-        return mapper.map(volunteer, VolunteerDTO.class);
+        return volunteerMapper.toDto(volunteer);
     }
 
     // 3️ Get Volunteer by User ID
     @Override
+    @Transactional(readOnly = true)
     public VolunteerDTO getVolunteerByUserId(Long userId) {
 
         Volunteer volunteer = volunteerRepo.findByMyuserId(userId)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Volunteer not found for user"));
 
-        return mapper.map(volunteer, VolunteerDTO.class);
+        return volunteerMapper.toDto(volunteer);
     }
 
-    // 4️ List all Volunteers
+    // 4️ List Volunteers, one keyset page at a time
     @Override
-    public List<VolunteerDTO> listAllVolunteers() {
+    @Transactional(readOnly = true)
+    public CursorPage<VolunteerDTO> listVolunteersPage(Long after, int size) {
 
-        return volunteerRepo.findAll()
-                .stream()
-                .map(v -> mapper.map(v, VolunteerDTO.class))
+        int limit = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        List<Volunteer> rows = volunteerRepo.findByIdGreaterThanOrderByIdAsc(
+                after == null ? 0L : after, PageRequest.of(0, limit + 1));
+
+        boolean hasMore = rows.size() > limit;
+        List<VolunteerDTO> items = rows.stream()
+                .limit(limit)
+                .map(volunteerMapper::toDto)
                 .toList();
+        return new CursorPage<>(items, hasMore ? items.get(items.size() - 1).getId() : null);
     }
 
     
@@ -97,22 +117,23 @@ public class VolunteerServiceImpl implements VolunteerService {
                         new ResourceNotFoundException("Volunteer not found"));
 
         volunteer.setAvailability(availability);
+        Volunteer saved = volunteerRepo.save(volunteer);
+        geoIndex.upsert(saved);
 
-        return mapper.map(volunteerRepo.save(volunteer), VolunteerDTO.class);
+        return volunteerMapper.toDto(saved);
     }
     
     
+    // Available volunteers from the in-memory grid index; only matches are loaded,
+    // together with their user (callers read the email outside a transaction)
     @Override
+    @Transactional(readOnly = true)
     public List<Volunteer> findNearby(double lat, double lon) {
 
-        return volunteerRepo.findAll()
-                .stream()
-                .filter(v ->
-                        distanceUtil.calculate(
-                                lat, lon,
-                                v.getLatitude(), v.getLongitude()
-                        ) <= 5
-                )
-                .toList();
+        List<Long> ids = geoIndex.findAvailableWithin(lat, lon, NEARBY_RADIUS_KM, null);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return volunteerRepo.findAllWithUserByIdIn(ids);
     }
 }
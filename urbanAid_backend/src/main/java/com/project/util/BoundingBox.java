@@ -0,0 +1,17 @@
+package com.project.util;
+
+/*
+ * Lat/lng rectangle enclosing a circle of radiusKm around a point.
+ * Used as a cheap prefilter before the exact great-circle check.
+ */
+public record BoundingBox(double minLat, double maxLat, double minLng, double maxLng) {
+
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    public static BoundingBox around(double lat, double lng, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE_LAT;
+        double cosLat = Math.max(Math.cos(Math.toRadians(lat)), 1e-6);
+        double dLng = Math.min(radiusKm / (KM_PER_DEGREE_LAT * cosLat), 180.0);
+        return new BoundingBox(lat - dLat, lat + dLat, lng - dLng, lng + dLng);
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.project.entities.Vtype;
+
+/*
+ * Batched report -> volunteer assignment.
+ *
+ * Each open report gets its k nearest suitable volunteers from the geo index
+ * (ring search, no SQL per pair). All report/volunteer edges are then taken
+ * shortest first: an edge is used when its report is still unassigned and
+ * its volunteer still has capacity. That is the greedy matching for minimum
+ * total distance: contention for a volunteer is settled in favour of the
+ * closest report, and the loser falls through to its next-nearest candidate.
+ *
+ * Cost is k index lookups per report plus one sort of (reports x k) edges;
+ * volunteers only appear through the candidates, so their count matters
+ * only via cell density.
+ */
+public final class DispatchPlanner {
+
+    private DispatchPlanner() {
+    }
+
+    public record Job(long reportId, double lat, double lng, Set<Vtype> types) {
+    }
+
+    public record Assignment(long reportId, long volunteerId, double distanceMeters) {
+    }
+
+    /*
+     * remainingCapacity gets every candidate volunteer id once and returns
+     * how many more reports each can take; missing ids count as zero.
+     */
+    public static List<Assignment> plan(List<Job> jobs, VolunteerGeoIndex index,
+                                        int candidatesPerJob, double maxRadiusKm,
+                                        Function<Collection<Long>, Map<Long, Integer>> remainingCapacity) {
+
+        int max = jobs.size() * candidatesPerJob;
+        int[] edgeJob = new int[max];
+        long[] edgeVolunteer = new long[max];
+        double[] edgeMeters = new double[max];
+        int edges = 0;
+
+        LongIntHashMap capacity = new LongIntHashMap(Math.max(16, max / 4));
+        List<Long> volunteers = new ArrayList<>();
+
+        for (int j = 0; j < jobs.size(); j++) {
+            Job job = jobs.get(j);
+            for (VolunteerGeoIndex.Candidate c : index.findNearestCandidates(
+                    job.lat(), job.lng(), job.types(), candidatesPerJob, maxRadiusKm)) {
+                edgeJob[edges] = j;
+                edgeVolunteer[edges] = c.volunteerId();
+                edgeMeters[edges] = c.distanceMeters();
+                edges++;
+                if (capacity.get(c.volunteerId(), -1) < 0) {
+                    capacity.put(c.volunteerId(), 0);
+                    volunteers.add(c.volunteerId());
+                }
+            }
+        }
+        if (edges == 0) {
+            return List.of();
+        }
+        remainingCapacity.apply(volunteers).forEach((id, free) -> {
+            if (capacity.get(id, -1) >= 0) {
+                capacity.put(id, Math.max(free, 0));
+            }
+        });
+
+        // sort edges by distance without boxing: non-negative float bits order
+        // like the floats themselves, the low half carries the edge index
+        long[] order = new long[edges];
+        for (int e = 0; e < edges; e++) {
+            order[e] = ((long) Float.floatToIntBits((float) edgeMeters[e]) << 32) | e;
+        }
+        Arrays.sort(order);
+
+        boolean[] assigned = new boolean[jobs.size()];
+        List<Assignment> plan = new ArrayList<>();
+        for (long key : order) {
+            int e = (int) key;
+            int j = edgeJob[e];
+            if (assigned[j]) {
+                continue;
+            }
+            long v = edgeVolunteer[e];
+            int free = capacity.get(v, 0);
+            if (free <= 0) {
+                continue;
+            }
+            capacity.put(v, free - 1);
+            assigned[j] = true;
+            plan.add(new Assignment(jobs.get(j).reportId(), v, edgeMeters[e]));
+        }
+        return plan;
+    }
+}
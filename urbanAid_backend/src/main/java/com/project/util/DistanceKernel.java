@@ -0,0 +1,74 @@
+package com.project.util;
+
+/*
+ * Great-circle radius test for one query point against many candidates.
+ *
+ * Candidates are kept as unit vectors on the sphere (see unit()), computed
+ * once when they are indexed. The query point is converted once per search,
+ * after which "is this within r metres?" is a squared chord length compared
+ * to a precomputed threshold: three subtractions and three multiplies, no
+ * trig, no sqrt. The exact distance (metersTo) is only needed for ranking.
+ */
+public final class DistanceKernel {
+
+    public static final double EARTH_RADIUS_M = 6_371_000;
+
+    private final double qx;
+    private final double qy;
+    private final double qz;
+    private final double maxChord2;
+
+    public DistanceKernel(double lat, double lng, double radiusMeters) {
+        double[] q = unit(lat, lng);
+        qx = q[0];
+        qy = q[1];
+        qz = q[2];
+        // central angle theta <-> chord 2 sin(theta / 2) on the unit sphere
+        double halfAngle = Math.min(radiusMeters / EARTH_RADIUS_M, Math.PI) / 2;
+        double chord = 2 * Math.sin(halfAngle);
+        maxChord2 = chord * chord;
+    }
+
+    // (x, y, z) of a lat/lng on the unit sphere
+    public static double[] unit(double lat, double lng) {
+        double latR = Math.toRadians(lat);
+        double lngR = Math.toRadians(lng);
+        double cosLat = Math.cos(latR);
+        return new double[] { cosLat * Math.cos(lngR), cosLat * Math.sin(lngR), Math.sin(latR) };
+    }
+
+    public boolean within(double x, double y, double z) {
+        return chord2(x, y, z) <= maxChord2;
+    }
+
+    /*
+     * Structure-of-arrays filter: writes the indices (0..length) of candidates
+     * inside the radius to out and returns how many there are. The loop is
+     * branch-free (every index is stored, the cursor only advances on a hit),
+     * so mixed hit/miss runs don't cost branch mispredictions.
+     */
+    public int filter(double[] xs, double[] ys, double[] zs, int length, int[] out) {
+        int n = 0;
+        for (int i = 0; i < length; i++) {
+            double dx = xs[i] - qx;
+            double dy = ys[i] - qy;
+            double dz = zs[i] - qz;
+            out[n] = i;
+            n += (dx * dx + dy * dy + dz * dz <= maxChord2) ? 1 : 0;
+        }
+        return n;
+    }
+
+    // Exact great-circle distance in metres
+    public double metersTo(double x, double y, double z) {
+        double halfChord = Math.sqrt(chord2(x, y, z)) / 2;
+        return 2 * EARTH_RADIUS_M * Math.asin(Math.min(1.0, halfChord));
+    }
+
+    private double chord2(double x, double y, double z) {
+        double dx = x - qx;
+        double dy = y - qy;
+        double dz = z - qz;
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.util;
+
+/*
+ * Fixed lat/lng grid shared by the in-memory spatial indexes (volunteers and
+ * open reports), so both cut the world into the same cells. A cell is
+ * identified by its row and column packed into one long.
+ */
+final class GridCells {
+
+    // ~5.5 km of latitude per cell, so a 5 km search touches at most 3x3 cells
+    static final double CELL_DEGREES = 0.05;
+
+    private GridCells() {
+    }
+
+    // row (latitude) or column (longitude) of the cell holding a coordinate
+    static int cell(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    static long key(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    static int latCell(long key) {
+        return (int) (key >> 32);
+    }
+
+    static int lngCell(long key) {
+        return (int) key;
+    }
+}
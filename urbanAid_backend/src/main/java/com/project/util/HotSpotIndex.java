@@ -0,0 +1,342 @@
+package com.project.util;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.project.custom_exceptions.InvalidInputException;
+import com.project.dto.HotSpotDTO;
+import com.project.entities.Category;
+import com.project.entities.Report;
+import com.project.entities.Status;
+import com.project.repository.ReportRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Report counts per geohash cell, by category and status, for the admin heat
+ * map. A geohash of precision p is a cell of a fixed lat/lng grid (p * 5 bits
+ * split between longitude and latitude), so each precision keeps a map of
+ * grid cell -> counter block and the geohash string is only built for output.
+ *
+ * Counters are kept for every precision and patched after commit on create
+ * and on every status change; a viewport query visits min(cells in viewport,
+ * populated cells) at the requested precision and never touches reports.
+ * A periodic rebuild from the database corrects drift from other instances.
+ * Changes committed while a rebuild is loading are applied to the live
+ * counters and also buffered; before the swap they are replayed onto the
+ * fresh counters against the status each report was loaded with, so a change
+ * the load already saw is not counted twice and one it missed is not lost.
+ *
+ * Memory: a populated cell costs one int[BLOCK] (8 categories x 7 statuses,
+ * ~240 bytes) plus ~70 bytes of map entry, per precision. Coarse levels stay
+ * small (a city is a handful of cells up to precision 4); precision 7
+ * (~150 m cells) dominates, at most one cell per report: ~300 MB worst case
+ * for 1M reports in 1M distinct cells, ~30 MB for 100k populated cells.
+ * A rebuild additionally holds a report id -> status map (~32 bytes/report).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotSpotIndex {
+
+    public static final int MIN_PRECISION = 1;
+    public static final int MAX_PRECISION = 7;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final int LOAD_PAGE_SIZE = 10_000;
+    private static final int MAX_RESULT_CELLS = 20_000;
+
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Status[] STATUSES = Status.values();
+    // counter block per cell: one int per (category, status)
+    private static final int BLOCK = CATEGORIES.length * STATUSES.length;
+
+    private final ReportRepository reportRepo;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Levels levels = new Levels();
+    // changes committed since the running rebuild started loading, null when none runs
+    private List<Change> changes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${hotspots.rebuild-interval-ms:3600000}",
+               fixedDelayString = "${hotspots.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        write(() -> changes = new ArrayList<>());
+        Levels fresh = new Levels();
+        // status each report was loaded with (ordinal + 1), for the replay
+        LongIntHashMap loaded = new LongIntHashMap(LOAD_PAGE_SIZE);
+        long after = 0;
+        int reports = 0;
+        List<ReportRepository.ReportPoint> page;
+        try {
+            do {
+                page = reportRepo.findPointsAfter(after, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (ReportRepository.ReportPoint p : page) {
+                    fresh.add(p.getLatitude(), p.getLongitude(), p.getCategory(), p.getStatus(), 1);
+                    if (p.getStatus() != null) {
+                        loaded.put(p.getId(), p.getStatus().ordinal() + 1);
+                    }
+                    after = p.getId();
+                }
+                reports += page.size();
+            } while (page.size() == LOAD_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            write(() -> changes = null);
+            throw e;
+        }
+
+        int replayed = write(() -> {
+            int n = changes.size();
+            changes.forEach(c -> c.replay(fresh, loaded));
+            changes = null;
+            levels = fresh;
+            return n;
+        });
+        log.info("Hot spot counters rebuilt from {} reports, {} concurrent changes replayed", reports, replayed);
+    }
+
+    // A new report, counted once the transaction commits
+    public void added(Report r) {
+        apply(new Change(r.getId(), r.getLatitude(), r.getLongitude(), r.getCategory(), null, r.getStatus()));
+    }
+
+    // A status change, moved between counters once the transaction commits
+    public void moved(Report r, Status from, Status to) {
+        apply(new Change(r.getId(), r.getLatitude(), r.getLongitude(), r.getCategory(), from, to));
+    }
+
+    private void apply(Change c) {
+        AfterCommit.run(() -> write(() -> {
+            c.applyTo(levels);
+            if (changes != null) {
+                changes.add(c);
+            }
+            return null;
+        }));
+    }
+
+    /*
+     * Non-empty cells of the given precision overlapping the viewport, each
+     * with its total and per-category / per-status breakdown. status and
+     * category, when not null, restrict what is counted.
+     */
+    public List<HotSpotDTO> query(int precision, BoundingBox viewport, Status status, Category category) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new InvalidInputException("precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION);
+        }
+        if (viewport.minLat() > viewport.maxLat() || viewport.minLng() > viewport.maxLng()) {
+            throw new InvalidInputException("Viewport min must not exceed max");
+        }
+        Grid g = new Grid(precision);
+        int i0 = g.latIndex(viewport.minLat());
+        int i1 = g.latIndex(viewport.maxLat());
+        int j0 = g.lngIndex(viewport.minLng());
+        int j1 = g.lngIndex(viewport.maxLng());
+        long viewportCells = (long) (i1 - i0 + 1) * (j1 - j0 + 1);
+
+        List<HotSpotDTO> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, int[]> level = levels.at(precision);
+            if (viewportCells <= level.size()) {
+                for (int i = i0; i <= i1; i++) {
+                    for (int j = j0; j <= j1; j++) {
+                        int[] block = level.get(GridCells.key(i, j));
+                        if (block != null) {
+                            collect(result, g, i, j, block, status, category);
+                        }
+                    }
+                }
+            } else {
+                for (Map.Entry<Long, int[]> e : level.entrySet()) {
+                    int i = GridCells.latCell(e.getKey());
+                    int j = GridCells.lngCell(e.getKey());
+                    if (i >= i0 && i <= i1 && j >= j0 && j <= j1) {
+                        collect(result, g, i, j, e.getValue(), status, category);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // Geohash of a point, same cells as the counters (precision MIN_PRECISION..MAX_PRECISION)
+    public static String geohash(double lat, double lng, int precision) {
+        Grid g = new Grid(precision);
+        return g.geohash(g.latIndex(lat), g.lngIndex(lng));
+    }
+
+    private static void collect(List<HotSpotDTO> out, Grid g, int i, int j, int[] block,
+                                Status status, Category category) {
+        Map<Category, Integer> byCategory = new EnumMap<>(Category.class);
+        Map<Status, Integer> byStatus = new EnumMap<>(Status.class);
+        int total = 0;
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            if (category != null && category.ordinal() != c) {
+                continue;
+            }
+            for (int s = 0; s < STATUSES.length; s++) {
+                if (status != null && status.ordinal() != s) {
+                    continue;
+                }
+                int n = block[c * STATUSES.length + s];
+                if (n > 0) {
+                    byCategory.merge(CATEGORIES[c], n, Integer::sum);
+                    byStatus.merge(STATUSES[s], n, Integer::sum);
+                    total += n;
+                }
+            }
+        }
+        if (total == 0) {
+            return;
+        }
+        if (out.size() == MAX_RESULT_CELLS) {
+            throw new InvalidInputException("Too many cells, zoom in or lower the precision");
+        }
+        out.add(new HotSpotDTO(g.geohash(i, j), g.centerLat(i), g.centerLng(j), total, byCategory, byStatus));
+    }
+
+    private <T> T write(Supplier<T> change) {
+        lock.writeLock().lock();
+        try {
+            return change.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // One committed create (from == null) or status change of a report
+    private record Change(Long reportId, Double lat, Double lng, Category category, Status from, Status to) {
+
+        void applyTo(Levels levels) {
+            if (from != null) {
+                levels.add(lat, lng, category, from, -1);
+            }
+            levels.add(lat, lng, category, to, 1);
+        }
+
+        /*
+         * Moves the report from the status the rebuild saw (or last replayed)
+         * to this change's status. Changes of one report replay in commit
+         * order, so the last one leaves it in its current status.
+         */
+        void replay(Levels fresh, LongIntHashMap loaded) {
+            if (reportId == null || to == null) {
+                applyTo(fresh);
+                return;
+            }
+            int seen = loaded.get(reportId, 0);
+            if (seen == to.ordinal() + 1) {
+                return;
+            }
+            if (seen != 0) {
+                fresh.add(lat, lng, category, STATUSES[seen - 1], -1);
+            }
+            fresh.add(lat, lng, category, to, 1);
+            loaded.put(reportId, to.ordinal() + 1);
+        }
+    }
+
+    // One counter map per precision
+    private static final class Levels {
+
+        private final List<Map<Long, int[]>> maps = new ArrayList<>();
+        private final Grid[] grids = new Grid[MAX_PRECISION + 1];
+
+        Levels() {
+            for (int p = 0; p <= MAX_PRECISION; p++) {
+                maps.add(new HashMap<>());
+                grids[p] = new Grid(p);
+            }
+        }
+
+        Map<Long, int[]> at(int precision) {
+            return maps.get(precision);
+        }
+
+        void add(Double lat, Double lng, Category category, Status status, int delta) {
+            if (lat == null || lng == null || category == null || status == null) {
+                return;
+            }
+            int slot = category.ordinal() * STATUSES.length + status.ordinal();
+            for (int p = MIN_PRECISION; p <= MAX_PRECISION; p++) {
+                Grid g = grids[p];
+                long key = GridCells.key(g.latIndex(lat), g.lngIndex(lng));
+                Map<Long, int[]> level = maps.get(p);
+                int[] block = level.computeIfAbsent(key, k -> new int[BLOCK]);
+                block[slot] += delta;
+            }
+        }
+    }
+
+    // The geohash grid of one precision: longitude takes the odd bit when 5p is odd
+    private static final class Grid {
+
+        final int precision;
+        final int latBits;
+        final int lngBits;
+        final double latSize;
+        final double lngSize;
+
+        Grid(int precision) {
+            this.precision = precision;
+            this.lngBits = (precision * 5 + 1) / 2;
+            this.latBits = precision * 5 / 2;
+            this.latSize = 180.0 / (1L << latBits);
+            this.lngSize = 360.0 / (1L << lngBits);
+        }
+
+        int latIndex(double lat) {
+            return clamp((int) Math.floor((lat + 90) / latSize), latBits);
+        }
+
+        int lngIndex(double lng) {
+            return clamp((int) Math.floor((lng + 180) / lngSize), lngBits);
+        }
+
+        double centerLat(int i) {
+            return -90 + (i + 0.5) * latSize;
+        }
+
+        double centerLng(int j) {
+            return -180 + (j + 0.5) * lngSize;
+        }
+
+        // interleave lng/lat index bits (lng first), five bits per character
+        String geohash(int latIndex, int lngIndex) {
+            char[] out = new char[precision];
+            int latBit = latBits - 1;
+            int lngBit = lngBits - 1;
+            for (int c = 0; c < precision; c++) {
+                int v = 0;
+                for (int b = 0; b < 5; b++) {
+                    boolean lngTurn = (c * 5 + b) % 2 == 0;
+                    int bit = lngTurn ? (lngIndex >> lngBit--) & 1 : (latIndex >> latBit--) & 1;
+                    v = (v << 1) | bit;
+                }
+                out[c] = BASE32.charAt(v);
+            }
+            return new String(out);
+        }
+
+        private static int clamp(int index, int bits) {
+            return Math.max(0, Math.min(index, (1 << bits) - 1));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.project.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.project.dto.ReportDTO;
+import com.project.entities.Report;
+import com.project.entities.Status;
+import com.project.repository.ReportRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/*
+ * Read-through cache of open (CREATED) reports per lat/lng grid cell, backing
+ * the volunteer nearby feed. A missing cell is loaded from the database on
+ * first use, in one query together with the other cells the same search
+ * needs; after that every volunteer in the neighbourhood is served from memory.
+ *
+ * Writes from this instance are applied to cached cells after commit (a new
+ * report is added, a claimed or closed one removed). Each cell is reloaded at
+ * most ttl after it was loaded, however often it was patched in between, so
+ * anything missed (writes from another instance, a patch racing a load) is
+ * visible within ttl. A stale entry can at worst lead to a claim conflict.
+ *
+ * Hit/miss counts are published as cache.gets{cache=reports.nearby.cells}.
+ */
+@Component
+public class OpenReportCache {
+
+    // keeps rows that sit exactly on a cell edge inside the load query
+    private static final double EDGE_MARGIN = 1e-9;
+
+    private final ReportRepository reportRepo;
+    private final LoadingCache<Long, Cell> cells;
+
+    public OpenReportCache(ReportRepository reportRepo,
+                           MeterRegistry meterRegistry,
+                           @Value("${reports.nearby-cache.ttl-seconds:30}") long ttlSeconds,
+                           @Value("${reports.nearby-cache.max-cells:20000}") long maxCells) {
+        this.reportRepo = reportRepo;
+        long ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.cells = Caffeine.newBuilder()
+                .maximumSize(maxCells)
+                .expireAfter(new Expiry<Long, Cell>() {
+                    @Override
+                    public long expireAfterCreate(Long key, Cell value, long currentTime) {
+                        return ttlNanos;
+                    }
+
+                    // incremental patches must not push the reload further out
+                    @Override
+                    public long expireAfterUpdate(Long key, Cell value, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long key, Cell value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Cell load(Long key) {
+                        return loadAll(Set.of(key)).get(key);
+                    }
+
+                    @Override
+                    public Map<Long, Cell> loadAll(Set<? extends Long> keys) {
+                        return OpenReportCache.this.loadAll(keys);
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cells, "reports.nearby.cells");
+    }
+
+    /*
+     * Open reports within radiusMeters of (lat, lng), nearest first, at most
+     * limit of them. Each result is a fresh DTO with distanceMeters set.
+     */
+    public List<ReportDTO> nearest(double lat, double lng, double radiusMeters, int limit) {
+        BoundingBox box = BoundingBox.around(lat, lng, radiusMeters / 1000.0);
+        DistanceKernel kernel = new DistanceKernel(lat, lng, radiusMeters);
+
+        List<Long> keys = new ArrayList<>();
+        for (int i = GridCells.cell(box.minLat()); i <= GridCells.cell(box.maxLat()); i++) {
+            for (int j = GridCells.cell(box.minLng()); j <= GridCells.cell(box.maxLng()); j++) {
+                keys.add(GridCells.key(i, j));
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (Cell c : cells.getAll(keys).values()) {
+            for (Entry e : c.entries()) {
+                if (kernel.within(e.x(), e.y(), e.z())) {
+                    hits.add(new Hit(e.report(), kernel.metersTo(e.x(), e.y(), e.z())));
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+
+        List<ReportDTO> result = new ArrayList<>(Math.min(limit, hits.size()));
+        for (Hit h : hits.subList(0, Math.min(limit, hits.size()))) {
+            ReportDTO dto = copy(h.report());
+            dto.setDistanceMeters(h.distanceMeters());
+            result.add(dto);
+        }
+        return result;
+    }
+
+    // A report was created as CREATED; shown once the transaction commits
+    public void added(Report r, ReportDTO dto) {
+        if (r.getLatitude() == null || r.getLongitude() == null) {
+            return;
+        }
+        Entry entry = entry(copy(dto), r.getLatitude(), r.getLongitude());
+        long key = key(r.getLatitude(), r.getLongitude());
+        AfterCommit.run(() -> cells.asMap().computeIfPresent(key, (k, c) -> c.with(entry)));
+    }
+
+    // A report left CREATED (claimed, closed, ...); dropped once the transaction commits
+    public void removed(Report r) {
+        if (r.getId() == null || r.getLatitude() == null || r.getLongitude() == null) {
+            return;
+        }
+        long id = r.getId();
+        long key = key(r.getLatitude(), r.getLongitude());
+        AfterCommit.run(() -> cells.asMap().computeIfPresent(key, (k, c) -> c.without(id)));
+    }
+
+    /*
+     * One query for the rectangle spanning all requested cells, split back into
+     * cells. Requested cells without open reports are cached as empty.
+     */
+    private Map<Long, Cell> loadAll(Set<? extends Long> keys) {
+        int minLat = Integer.MAX_VALUE;
+        int maxLat = Integer.MIN_VALUE;
+        int minLng = Integer.MAX_VALUE;
+        int maxLng = Integer.MIN_VALUE;
+        for (long k : keys) {
+            minLat = Math.min(minLat, GridCells.latCell(k));
+            maxLat = Math.max(maxLat, GridCells.latCell(k));
+            minLng = Math.min(minLng, GridCells.lngCell(k));
+            maxLng = Math.max(maxLng, GridCells.lngCell(k));
+        }
+
+        Map<Long, List<Entry>> grouped = new HashMap<>();
+        for (long k : keys) {
+            grouped.put(k, new ArrayList<>());
+        }
+        List<ReportRepository.LocatedReport> rows = reportRepo.findInBox(Status.CREATED,
+                minLat * GridCells.CELL_DEGREES - EDGE_MARGIN, (maxLat + 1) * GridCells.CELL_DEGREES + EDGE_MARGIN,
+                minLng * GridCells.CELL_DEGREES - EDGE_MARGIN, (maxLng + 1) * GridCells.CELL_DEGREES + EDGE_MARGIN);
+        for (ReportRepository.LocatedReport row : rows) {
+            // the rectangle can cover cells that weren't asked for; those are skipped
+            List<Entry> cell = grouped.get(key(row.getLatitude(), row.getLongitude()));
+            if (cell != null) {
+                ReportDTO dto = new ReportDTO(row.getId(), row.getDescription(), row.getLocation(),
+                        row.getImagepath(), Status.CREATED, row.getCategory(), row.getCitizenId(), null);
+                cell.add(entry(dto, row.getLatitude(), row.getLongitude()));
+            }
+        }
+
+        Map<Long, Cell> loaded = new HashMap<>();
+        grouped.forEach((k, entries) -> loaded.put(k, new Cell(List.copyOf(entries))));
+        return loaded;
+    }
+
+    private static Entry entry(ReportDTO dto, double lat, double lng) {
+        double[] u = DistanceKernel.unit(lat, lng);
+        return new Entry(dto, u[0], u[1], u[2]);
+    }
+
+    // Cached DTOs are shared between requests, so callers only ever get copies
+    private static ReportDTO copy(ReportDTO d) {
+        return new ReportDTO(d.getId(), d.getDescription(), d.getLocation(), d.getImagepath(),
+                d.getStatus(), d.getCategory(), d.getCitizenId(), d.getVolunteerId());
+    }
+
+    private static long key(double lat, double lng) {
+        return GridCells.key(GridCells.cell(lat), GridCells.cell(lng));
+    }
+
+    private record Entry(ReportDTO report, double x, double y, double z) {
+    }
+
+    private record Hit(ReportDTO report, double distanceMeters) {
+    }
+
+    // Immutable; patches build a new cell so readers never see a half-applied change
+    private record Cell(List<Entry> entries) {
+
+        Cell with(Entry entry) {
+            List<Entry> next = new ArrayList<>(entries.size() + 1);
+            for (Entry e : entries) {
+                if (!e.report().getId().equals(entry.report().getId())) {
+                    next.add(e);
+                }
+            }
+            next.add(entry);
+            return new Cell(List.copyOf(next));
+        }
+
+        Cell without(long id) {
+            List<Entry> next = new ArrayList<>(entries.size());
+            for (Entry e : entries) {
+                if (e.report().getId() != id) {
+                    next.add(e);
+                }
+            }
+            return next.size() == entries.size() ? this : new Cell(List.copyOf(next));
+        }
+    }
+}
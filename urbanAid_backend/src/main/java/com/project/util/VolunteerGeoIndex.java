@@ -0,0 +1,355 @@
+package com.project.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.project.entities.Volunteer;
+import com.project.entities.Vtype;
+import com.project.repository.VolunteerRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Resident grid index of volunteer positions.
+ * The world is cut into fixed lat/lng cells; a nearby lookup only visits the
+ * cells overlapping the search radius and runs DistanceKernel's radius check
+ * on the volunteers found there, instead of scanning the whole volunteer table.
+ *
+ * Storage is columnar: each populated cell keeps parallel primitive arrays
+ * (id, unit vector x/y/z, availability, vtype ordinal), and volunteer id ->
+ * cell is a primitive hash map. There is no object per volunteer; a volunteer
+ * costs roughly 60 bytes, so a million fit in well under 100 MB of heap.
+ *
+ * A rebuild loads into a fresh grid while searches keep using the live one.
+ * Writes committed during the load go to the live grid and are buffered;
+ * they are replayed in order onto the fresh grid before the swap. Every write
+ * carries the volunteer's full state, so replaying one the load already saw
+ * is harmless.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VolunteerGeoIndex {
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+    // vtype filter as a bit per ordinal; -1 lets every type through
+    private static final int ALL_TYPES = -1;
+
+    private final VolunteerRepository volunteerRepo;
+
+    // many concurrent searches, rare writes
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Grid grid = new Grid(16);
+    // writes committed since the running rebuild started loading, null when none runs
+    private List<Consumer<Grid>> changes;
+
+    // Load every volunteer position once the context is up
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        write(() -> changes = new ArrayList<>());
+        Grid fresh = new Grid(LOAD_PAGE_SIZE);
+        long after = 0;
+        List<VolunteerRepository.Location> page;
+        try {
+            do {
+                page = volunteerRepo.findLocationsAfter(after, PageRequest.of(0, LOAD_PAGE_SIZE));
+                for (VolunteerRepository.Location loc : page) {
+                    fresh.put(loc.getId(), loc.getLatitude(), loc.getLongitude(),
+                            Boolean.TRUE.equals(loc.getAvailability()), loc.getVtype());
+                    after = loc.getId();
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+        } catch (RuntimeException e) {
+            write(() -> changes = null);
+            throw e;
+        }
+
+        int[] replayed = new int[1];
+        write(() -> {
+            changes.forEach(c -> c.accept(fresh));
+            replayed[0] = changes.size();
+            changes = null;
+            grid = fresh;
+        });
+        log.info("Volunteer geo index built with {} entries in {} cells, {} concurrent writes replayed",
+                fresh.size(), fresh.cellCount(), replayed[0]);
+    }
+
+    /*
+     * Index (or re-index) a volunteer. When called inside a transaction the
+     * change is applied only after commit, so rolled-back writes never show up.
+     */
+    public void upsert(Volunteer v) {
+        if (v.getId() == null || v.getLatitude() == null || v.getLongitude() == null) {
+            return;
+        }
+        long id = v.getId();
+        double lat = v.getLatitude();
+        double lng = v.getLongitude();
+        boolean available = v.isAvailability();
+        Vtype vtype = v.getVtype();
+        apply(g -> g.put(id, lat, lng, available, vtype));
+    }
+
+    public void remove(Long volunteerId) {
+        apply(g -> g.delete(volunteerId));
+    }
+
+    private void apply(Consumer<Grid> change) {
+        AfterCommit.run(() -> write(() -> {
+            change.accept(grid);
+            if (changes != null) {
+                changes.add(change);
+            }
+        }));
+    }
+
+    /*
+     * Ids of volunteers within radiusKm of (lat, lng), exact great-circle distance.
+     */
+    public List<Long> findWithin(double lat, double lng, double radiusKm) {
+        List<Long> ids = new ArrayList<>();
+        search(lat, lng, radiusKm, false, ALL_TYPES, (c, k, kernel) -> ids.add(c.ids[k]));
+        return ids;
+    }
+
+    /*
+     * Same, restricted to volunteers marked available and, when vtype is not
+     * null, of that type.
+     */
+    public List<Long> findAvailableWithin(double lat, double lng, double radiusKm, Vtype vtype) {
+        List<Long> ids = new ArrayList<>();
+        int mask = vtype == null ? ALL_TYPES : 1 << vtype.ordinal();
+        search(lat, lng, radiusKm, true, mask, (c, k, kernel) -> ids.add(c.ids[k]));
+        return ids;
+    }
+
+    /*
+     * Available volunteers of any of the given types within radiusKm, with
+     * their exact distance, for ranking.
+     */
+    public List<Candidate> findCandidates(double lat, double lng, double radiusKm, Set<Vtype> types) {
+        int mask = 0;
+        for (Vtype t : types) {
+            mask |= 1 << t.ordinal();
+        }
+        List<Candidate> result = new ArrayList<>();
+        search(lat, lng, radiusKm, true, mask, (c, k, kernel) ->
+                result.add(new Candidate(c.ids[k], kernel.metersTo(c.xs[k], c.ys[k], c.zs[k]))));
+        return result;
+    }
+
+    /*
+     * The k nearest available volunteers of the given types, nearest first.
+     * Searches rings from 1 km outwards, doubling, so a dense area touches
+     * only the cells next to the point; gives up at maxRadiusKm.
+     */
+    public List<Candidate> findNearestCandidates(double lat, double lng, Set<Vtype> types,
+                                                 int k, double maxRadiusKm) {
+        double radiusKm = Math.min(1.0, maxRadiusKm);
+        List<Candidate> found = findCandidates(lat, lng, radiusKm, types);
+        while (found.size() < k && radiusKm < maxRadiusKm) {
+            radiusKm = Math.min(radiusKm * 2, maxRadiusKm);
+            found = findCandidates(lat, lng, radiusKm, types);
+        }
+        found.sort(Comparator.comparingDouble(Candidate::distanceMeters));
+        return found.size() > k ? found.subList(0, k) : found;
+    }
+
+    public record Candidate(long volunteerId, double distanceMeters) {
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return grid.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Called under the read lock for every matching row of a cell
+    private interface Hit {
+        void accept(Cell cell, int row, DistanceKernel kernel);
+    }
+
+    private void search(double lat, double lng, double radiusKm, boolean availableOnly, int typeMask, Hit hit) {
+        BoundingBox box = BoundingBox.around(lat, lng, radiusKm);
+        DistanceKernel kernel = new DistanceKernel(lat, lng, radiusKm * 1000);
+
+        int minLatCell = GridCells.cell(box.minLat());
+        int maxLatCell = GridCells.cell(box.maxLat());
+        int minLngCell = GridCells.cell(box.minLng());
+        int maxLngCell = GridCells.cell(box.maxLng());
+
+        int[] hits = new int[0];
+        lock.readLock().lock();
+        try {
+            for (int i = minLatCell; i <= maxLatCell; i++) {
+                for (int j = minLngCell; j <= maxLngCell; j++) {
+                    Cell c = grid.cells.get(key(i, j));
+                    if (c == null) {
+                        continue;
+                    }
+                    if (hits.length < c.size) {
+                        hits = new int[c.size];
+                    }
+                    int n = kernel.filter(c.xs, c.ys, c.zs, c.size, hits);
+                    for (int h = 0; h < n; h++) {
+                        int k = hits[h];
+                        if (availableOnly && !c.available[k]) {
+                            continue;
+                        }
+                        if (typeMask != ALL_TYPES && (c.vtypes[k] < 0 || (typeMask & (1 << c.vtypes[k])) == 0)) {
+                            continue;
+                        }
+                        hit.accept(c, k, kernel);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long key(int latCell, int lngCell) {
+        return GridCells.key(latCell, lngCell);
+    }
+
+    /*
+     * All cells plus the id -> cell lookup. Cells get a number when first
+     * populated so the id map can hold an int instead of the 64-bit cell key.
+     */
+    private static final class Grid {
+
+        final Map<Long, Cell> cells = new HashMap<>();
+        final List<Cell> byNumber = new ArrayList<>();
+        final LongIntHashMap cellOf;
+
+        Grid(int expected) {
+            cellOf = new LongIntHashMap(expected);
+        }
+
+        void put(long id, double lat, double lng, boolean available, Vtype vtype) {
+            long cellKey = key(GridCells.cell(lat), GridCells.cell(lng));
+            double[] u = DistanceKernel.unit(lat, lng);
+            byte type = (byte) (vtype == null ? -1 : vtype.ordinal());
+
+            int current = cellOf.get(id, -1);
+            if (current >= 0) {
+                Cell old = byNumber.get(current);
+                if (old.key == cellKey) {
+                    old.set(old.indexOf(id), id, u, available, type);
+                    return;
+                }
+                old.removeAt(old.indexOf(id));
+            }
+            Cell target = cells.computeIfAbsent(cellKey, k -> {
+                Cell c = new Cell(k, byNumber.size());
+                byNumber.add(c);
+                return c;
+            });
+            target.add(id, u, available, type);
+            cellOf.put(id, target.number);
+        }
+
+        void delete(long id) {
+            int current = cellOf.remove(id, -1);
+            if (current >= 0) {
+                Cell c = byNumber.get(current);
+                c.removeAt(c.indexOf(id));
+            }
+        }
+
+        int size() {
+            return cellOf.size();
+        }
+
+        int cellCount() {
+            return cells.size();
+        }
+    }
+
+    // Parallel arrays for the volunteers in one grid cell; removal swaps in the last row
+    private static final class Cell {
+
+        final long key;
+        final int number;
+        int size;
+        long[] ids = new long[8];
+        double[] xs = new double[8];
+        double[] ys = new double[8];
+        double[] zs = new double[8];
+        boolean[] available = new boolean[8];
+        byte[] vtypes = new byte[8];
+
+        Cell(long key, int number) {
+            this.key = key;
+            this.number = number;
+        }
+
+        void add(long id, double[] u, boolean avail, byte type) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                xs = Arrays.copyOf(xs, capacity);
+                ys = Arrays.copyOf(ys, capacity);
+                zs = Arrays.copyOf(zs, capacity);
+                available = Arrays.copyOf(available, capacity);
+                vtypes = Arrays.copyOf(vtypes, capacity);
+            }
+            set(size++, id, u, avail, type);
+        }
+
+        void set(int i, long id, double[] u, boolean avail, byte type) {
+            ids[i] = id;
+            xs[i] = u[0];
+            ys[i] = u[1];
+            zs[i] = u[2];
+            available[i] = avail;
+            vtypes[i] = type;
+        }
+
+        int indexOf(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Volunteer " + id + " missing from its grid cell");
+        }
+
+        void removeAt(int i) {
+            int last = --size;
+            ids[i] = ids[last];
+            xs[i] = xs[last];
+            ys[i] = ys[last];
+            zs[i] = zs[last];
+            available[i] = available[last];
+            vtypes[i] = vtypes[last];
+        }
+    }
+}
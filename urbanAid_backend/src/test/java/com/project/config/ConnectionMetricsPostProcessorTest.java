@@ -0,0 +1,66 @@
+package com.project.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConnectionMetricsPostProcessorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private HikariDataSource pool;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:connmetrics");
+        pool.setPoolName("test");
+        pool.setMaximumPoolSize(2);
+
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("meterRegistry", registry);
+        ConnectionMetricsPostProcessor processor =
+                new ConnectionMetricsPostProcessor(beans.getBeanProvider(MeterRegistry.class));
+        dataSource = (DataSource) processor.postProcessAfterInitialization(pool, "dataSource");
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void holdAndWaitAreTaggedWithTheTransactionMethod() {
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        tx.setName("com.project.service.ReportServiceImpl.createReport");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        tx.executeWithoutResult(status -> jdbc.queryForObject("SELECT 1", Integer.class));
+        jdbc.queryForObject("SELECT 1", Integer.class);
+
+        assertEquals(1, timer("db.connection.hold", "ReportServiceImpl.createReport").count());
+        assertEquals(1, timer("db.connection.wait", "ReportServiceImpl.createReport").count());
+        assertEquals(1, timer("db.connection.hold", "none").count());
+    }
+
+    private Timer timer(String name, String method) {
+        Timer timer = registry.find(name).tags("pool", "test", "method", method).timer();
+        assertNotNull(timer, name + " " + method);
+        return timer;
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaDataSourceConfigTest {
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        ReplicaDataSourceConfig.ReadOnlyRouting routing = new ReplicaDataSourceConfig.ReadOnlyRouting();
+        routing.setTargetDataSources(Map.of(false, h2("primary"), true, h2("replica")));
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        assertEquals("PRIMARY", tx.execute(status -> database(jdbc)));
+        tx.setReadOnly(true);
+        assertEquals("REPLICA", tx.execute(status -> database(jdbc)));
+    }
+
+    private static String database(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("SELECT DATABASE()", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:" + name);
+        return ds;
+    }
+}
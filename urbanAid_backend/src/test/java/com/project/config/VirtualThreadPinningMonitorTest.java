@@ -0,0 +1,55 @@
+package com.project.config;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new VirtualThreadPinningMonitor(registry, 5);
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void sleepingInsideSynchronizedIsReportedWithItsSite() throws Exception {
+        Object lock = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleepQuietly(50);
+            }
+        }).join();
+
+        // JFR streams flush about once a second
+        Timer pinned = null;
+        for (int i = 0; i < 50 && pinned == null; i++) {
+            Thread.sleep(100);
+            pinned = registry.find("jvm.threads.virtual.pinned").timer();
+        }
+        assertNotNull(pinned);
+        assertTrue(pinned.getId().getTag("site").contains("VirtualThreadPinningMonitorTest"));
+    }
+
+    private static void sleepQuietly(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
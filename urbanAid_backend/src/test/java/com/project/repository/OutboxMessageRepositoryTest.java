@@ -0,0 +1,89 @@
+package com.project.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import com.project.entities.OutboxChannel;
+import com.project.entities.OutboxMessage;
+import com.project.entities.OutboxStatus;
+
+/*
+ * A batch is claimed by one relay only, until its lease runs out.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+class OutboxMessageRepositoryTest {
+
+    private static final List<OutboxStatus> CLAIMABLE = List.of(OutboxStatus.PENDING, OutboxStatus.IN_FLIGHT);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private OutboxMessageRepository outboxRepo;
+
+    @Test
+    void claimedRowsAreSkippedUntilTheLeaseExpires() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            pending(now.minusSeconds(1));
+        }
+        pending(now.plusMinutes(1));
+        em.flush();
+
+        // both relays saw the same candidates, only the first one gets them
+        List<Long> ids = outboxRepo.findDueIds(CLAIMABLE, now, PageRequest.of(0, 10));
+        assertEquals(3, ids.size());
+        assertEquals(3, outboxRepo.claim(ids, CLAIMABLE, now, OutboxStatus.IN_FLIGHT, "a", now.plusMinutes(5)));
+        assertEquals(0, outboxRepo.claim(ids, CLAIMABLE, now, OutboxStatus.IN_FLIGHT, "b", now.plusMinutes(5)));
+        em.clear();
+        assertEquals(3, outboxRepo.findByClaimTokenOrderByIdAsc("a").size());
+        assertEquals(0, outboxRepo.findDueIds(CLAIMABLE, now, PageRequest.of(0, 10)).size());
+
+        // relay "a" never finished: after the lease its rows are due again
+        LocalDateTime later = now.plusMinutes(6);
+        List<Long> stale = outboxRepo.findDueIds(CLAIMABLE, later, PageRequest.of(0, 10));
+        assertEquals(4, stale.size());
+        assertEquals(4, outboxRepo.claim(stale, CLAIMABLE, later, OutboxStatus.IN_FLIGHT, "c", later.plusMinutes(5)));
+    }
+
+    @Test
+    void onlyOldRowsInTheGivenStateArePurged() {
+        OutboxMessage sent = pending(LocalDateTime.now());
+        sent.setStatus(OutboxStatus.SENT);
+        pending(LocalDateTime.now());
+        em.flush();
+
+        LocalDateTime before = LocalDateTime.now().plusSeconds(1);
+        assertEquals(List.of(sent.getId()),
+                outboxRepo.findIdsToPurge(OutboxStatus.SENT, before, PageRequest.of(0, 10)));
+        assertEquals(0, outboxRepo.findIdsToPurge(OutboxStatus.SENT, before.minusDays(1), PageRequest.of(0, 10)).size());
+    }
+
+    private OutboxMessage pending(LocalDateTime nextAttemptAt) {
+        OutboxMessage m = new OutboxMessage();
+        m.setChannel(OutboxChannel.EMAIL);
+        m.setStatus(OutboxStatus.PENDING);
+        m.setRecipientEmail("citizen@example.com");
+        m.setSubject("Subject");
+        m.setBody("Body");
+        m.setAttempts(0);
+        m.setNextAttemptAt(nextAttemptAt);
+        return em.persist(m);
+    }
+}
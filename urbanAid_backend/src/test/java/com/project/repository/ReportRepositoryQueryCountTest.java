@@ -0,0 +1,152 @@
+package com.project.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.project.dto.ReportDTO;
+import com.project.entities.Category;
+import com.project.entities.Report;
+import com.project.entities.Status;
+import com.project.entities.User;
+import com.project.entities.UserType;
+import com.project.entities.Volunteer;
+import com.project.entities.Vtype;
+
+/*
+ * List queries must cost one statement, not 1 + 2N association selects.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReportRepositoryQueryCountTest {
+
+    private static final int REPORTS = 20;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ReportRepository reportRepo;
+
+    private Statistics stats;
+    private Long citizenId;
+    private Long volunteerId;
+
+    @BeforeEach
+    void seed() {
+        User citizen = user("citizen@example.com", "9000000001", UserType.ROLE_CITIZEN);
+        User volUser = user("volunteer@example.com", "9000000002", UserType.ROLE_VOLUNTEER);
+
+        Volunteer volunteer = new Volunteer();
+        volunteer.setVtype(Vtype.GENERAL_HELP);
+        volunteer.setArea("Kothrud");
+        volunteer.setLatitude(18.50);
+        volunteer.setLongitude(73.80);
+        volunteer.setAvailability(true);
+        volunteer.setMyuser(volUser);
+        em.persist(volunteer);
+
+        for (int i = 0; i < REPORTS; i++) {
+            Report r = new Report();
+            r.setDescription("Pothole number " + i);
+            r.setLocation("Karve Road");
+            r.setLatitude(18.50);
+            r.setLongitude(73.81);
+            r.setImagepath("");
+            r.setCategory(Category.ROADS);
+            r.setCitizen(citizen);
+            // half assigned, half still open
+            r.setStatus(i % 2 == 0 ? Status.ASSIGNED : Status.CREATED);
+            r.setVolunteer(i % 2 == 0 ? volunteer : null);
+            em.persist(r);
+        }
+        em.flush();
+        em.clear();
+
+        citizenId = citizen.getId();
+        volunteerId = volunteer.getId();
+        stats = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+    }
+
+    @Test
+    void citizenReportsLoadInOneStatement() {
+        List<ReportDTO> reports = reportRepo.findDtosByCitizenId(citizenId);
+
+        assertEquals(REPORTS, reports.size());
+        assertEquals(citizenId, reports.get(0).getCitizenId());
+        assertEquals(volunteerId, reports.get(0).getVolunteerId());
+        assertNull(reports.get(1).getVolunteerId());
+        assertEquals(1, stats.getPrepareStatementCount());
+    }
+
+    @Test
+    void volunteerReportsLoadInOneStatement() {
+        List<ReportDTO> reports = reportRepo.findDtosByVolunteerId(volunteerId);
+
+        assertEquals(REPORTS / 2, reports.size());
+        assertEquals(1, stats.getPrepareStatementCount());
+    }
+
+    @Test
+    void entityListDoesNotLoadAssociations() {
+        List<Report> reports = reportRepo.findAll();
+
+        assertEquals(REPORTS, reports.size());
+        assertEquals(1, stats.getPrepareStatementCount());
+    }
+
+    @Test
+    void openAssignmentsAreCountedPerVolunteer() {
+        List<ReportRepository.VolunteerLoad> loads = reportRepo.findLoadsByVolunteerIdIn(
+                List.of(volunteerId), List.of(Status.ASSIGNED, Status.IN_PROGRESS));
+
+        assertEquals(1, loads.size());
+        assertEquals(volunteerId, loads.get(0).getVolunteerId());
+        assertEquals(REPORTS / 2, loads.get(0).getActive());
+        assertEquals(1, stats.getPrepareStatementCount());
+    }
+
+    @Test
+    void statusUpdateIsOneConditionalStatement() {
+        Long reportId = reportRepo.findDtosByVolunteerId(volunteerId).get(0).getId();
+        Volunteer volunteer = em.find(Volunteer.class, volunteerId);
+        stats.clear();
+
+        assertEquals(1, reportRepo.updateStatusIf(reportId, volunteer, Status.IN_PROGRESS, Status.ASSIGNED));
+        // a second writer that still expects ASSIGNED loses instead of overwriting
+        assertEquals(0, reportRepo.updateStatusIf(reportId, volunteer, Status.CANCELLED, Status.ASSIGNED));
+        assertEquals(2, stats.getPrepareStatementCount());
+
+        em.clear();
+        assertEquals(Status.IN_PROGRESS, em.find(Report.class, reportId).getStatus());
+    }
+
+    private User user(String email, String mobile, UserType type) {
+        User u = new User();
+        u.setEmail(email);
+        u.setMobile(mobile);
+        u.setName("Test " + type.name());
+        u.setPassword("secret");
+        u.setUserType(type);
+        return em.persist(u);
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.project.custom_exceptions.InvalidInputException;
+
+/*
+ * Uploads are typed by their bytes and oversized images are refused unread.
+ */
+class ImageStorageServiceTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void formatComesFromTheBytesNotTheContentType() throws IOException {
+        ImageStorageService images = new ImageStorageService(root.toString(), 320, 10_000);
+
+        String url = images.store(upload("image/gif", png(40, 30)));
+        assertTrue(url.endsWith(".png"));
+
+        MockMultipartFile script = upload("image/png", "<script>alert(1)</script>".getBytes(StandardCharsets.UTF_8));
+        assertThrows(InvalidInputException.class, () -> images.store(script));
+    }
+
+    @Test
+    void imagesOverThePixelBudgetAreRefused() throws IOException {
+        ImageStorageService images = new ImageStorageService(root.toString(), 320, 1_000);
+
+        assertThrows(InvalidInputException.class, () -> images.store(upload("image/png", png(40, 30))));
+        images.store(upload("image/png", png(20, 20)));
+    }
+
+    @Test
+    void thumbnailIsScaledDown() throws IOException {
+        ImageStorageService images = new ImageStorageService(root.toString(), 32, 1_000_000);
+        String url = images.store(upload("image/png", png(400, 200)));
+
+        BufferedImage thumb = ImageIO.read(images.thumbnail(url.substring(ImageStorageService.URL_PREFIX.length())).toFile());
+        assertEquals(32, thumb.getWidth());
+        assertEquals(16, thumb.getHeight());
+    }
+
+    private static MockMultipartFile upload(String contentType, byte[] bytes) {
+        return new MockMultipartFile("image", "photo", contentType, bytes);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,141 @@
+package com.project.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.project.dto.RollupDTO;
+import com.project.dto.StatsDTO;
+import com.project.entities.Category;
+import com.project.entities.Report;
+import com.project.entities.RollupGranularity;
+import com.project.entities.Status;
+import com.project.entities.TaskHistory;
+import com.project.entities.User;
+import com.project.entities.UserType;
+import com.project.util.HotSpotIndex;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/*
+ * Reports and transitions are folded into the rollups exactly once, and the
+ * statistics read back from them.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rollups;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "rollups.settle-seconds=0"
+})
+@Import({ RollupJob.class, StatsServiceImpl.class, SimpleMeterRegistry.class })
+class RollupJobTest {
+
+    private static final double LAT = 18.50;
+    private static final double LNG = 73.81;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private RollupJob job;
+
+    @Autowired
+    private StatsService statsService;
+
+    private User citizen;
+
+    @BeforeEach
+    void seed() {
+        citizen = new User();
+        citizen.setEmail("citizen@example.com");
+        citizen.setMobile("9000000001");
+        citizen.setName("Test citizen");
+        citizen.setPassword("secret");
+        citizen.setUserType(UserType.ROLE_CITIZEN);
+        em.persist(citizen);
+
+        Report assigned = report(Category.ROADS);
+        report(Category.ROADS);
+        Report completed = report(Category.SANITATION);
+        transition(assigned, Status.CREATED, Status.ASSIGNED);
+        transition(completed, Status.CREATED, Status.ASSIGNED);
+        // only the final RESOLVED counts as resolved, COMPLETED does not
+        transition(assigned, Status.ASSIGNED, Status.COMPLETED);
+        transition(completed, Status.ASSIGNED, Status.COMPLETED);
+        transition(completed, Status.COMPLETED, Status.RESOLVED);
+        em.flush();
+    }
+
+    @Test
+    void countsEveryEventOnce() {
+        job.run();
+        job.run();
+
+        RollupDTO totals = stats(RollupGranularity.DAY, null, null).getTotals();
+        assertEquals(3, totals.getCreated());
+        assertEquals(2, totals.getAssigned());
+        assertEquals(1, totals.getResolved());
+        assertNotNull(totals.getMeanClaimMinutes());
+        // live count of the report rows (all still CREATED here), not of the rollups
+        assertEquals(3, stats(RollupGranularity.DAY, null, null).getOpen());
+
+        report(Category.ROADS);
+        em.flush();
+        job.run();
+
+        assertEquals(4, stats(RollupGranularity.HOUR, null, null).getTotals().getCreated());
+    }
+
+    @Test
+    void filtersByCategoryAndArea() {
+        job.run();
+
+        StatsDTO roads = stats(RollupGranularity.DAY, Category.ROADS, null);
+        assertEquals(1, roads.getRows().size());
+        assertEquals(2, roads.getTotals().getCreated());
+        assertEquals(1, roads.getTotals().getAssigned());
+
+        String area = HotSpotIndex.geohash(LAT, LNG, RollupJob.AREA_PRECISION);
+        assertEquals(3, stats(RollupGranularity.DAY, null, area.substring(0, 3)).getTotals().getCreated());
+        assertEquals(0, stats(RollupGranularity.DAY, null, "zzz").getTotals().getCreated());
+    }
+
+    private StatsDTO stats(RollupGranularity granularity, Category category, String area) {
+        return statsService.getStats(granularity, null, LocalDateTime.now().plusHours(1), category, area);
+    }
+
+    private Report report(Category category) {
+        Report r = new Report();
+        r.setDescription("Issue");
+        r.setLocation("Karve Road");
+        r.setLatitude(LAT);
+        r.setLongitude(LNG);
+        r.setImagepath("");
+        r.setCategory(category);
+        r.setStatus(Status.CREATED);
+        r.setCitizen(citizen);
+        return em.persist(r);
+    }
+
+    private void transition(Report r, Status from, Status to) {
+        TaskHistory h = new TaskHistory();
+        h.setReport(r);
+        h.setOldStatus(from);
+        h.setNewStatus(to);
+        h.setChangedByType(UserType.ROLE_ADMIN);
+        h.setChangedById(0L);
+        em.persist(h);
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.entities.Volunteer;
+import com.project.entities.Vtype;
+import com.project.repository.VolunteerRepository;
+
+class DispatchPlannerTest {
+
+    private static final double LAT = 18.52;
+    private static final double LNG = 73.85;
+    private static final Set<Vtype> ANY = EnumSet.allOf(Vtype.class);
+
+    private VolunteerGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        VolunteerRepository repo = mock(VolunteerRepository.class);
+        when(repo.findLocationsAfter(anyLong(), any())).thenReturn(List.of());
+        index = new VolunteerGeoIndex(repo);
+        index.rebuild();
+    }
+
+    @Test
+    void closerReportWinsAndLoserTakesNextVolunteer() {
+        index.upsert(volunteer(1L, LAT, LNG, Vtype.GENERAL_HELP));
+        index.upsert(volunteer(2L, LAT + 0.02, LNG, Vtype.GENERAL_HELP));
+
+        // both reports are nearest to volunteer 1, which can take one more
+        List<DispatchPlanner.Job> jobs = List.of(
+                new DispatchPlanner.Job(10L, LAT + 0.008, LNG, ANY),
+                new DispatchPlanner.Job(11L, LAT + 0.001, LNG, ANY));
+
+        List<DispatchPlanner.Assignment> plan = DispatchPlanner.plan(jobs, index, 4, 10, capacity(Map.of(1L, 1, 2L, 1)));
+
+        assertEquals(Map.of(11L, 1L, 10L, 2L), pairs(plan));
+    }
+
+    @Test
+    void respectsTypeAndCapacity() {
+        index.upsert(volunteer(1L, LAT, LNG, Vtype.ANIMAL_RESCUE));
+        index.upsert(volunteer(2L, LAT + 0.01, LNG, Vtype.FIRST_AID));
+
+        List<DispatchPlanner.Job> jobs = List.of(
+                new DispatchPlanner.Job(10L, LAT, LNG, EnumSet.of(Vtype.FIRST_AID)),
+                new DispatchPlanner.Job(11L, LAT, LNG, EnumSet.of(Vtype.FIRST_AID)));
+
+        // volunteer 2 already holds all but one of its slots
+        List<DispatchPlanner.Assignment> plan = DispatchPlanner.plan(jobs, index, 4, 10, capacity(Map.of(2L, 1)));
+
+        assertEquals(1, plan.size());
+        assertEquals(2L, plan.get(0).volunteerId());
+    }
+
+    private static Function<Collection<Long>, Map<Long, Integer>> capacity(Map<Long, Integer> free) {
+        return ids -> free;
+    }
+
+    private static Map<Long, Long> pairs(List<DispatchPlanner.Assignment> plan) {
+        Map<Long, Long> pairs = new HashMap<>();
+        plan.forEach(a -> pairs.put(a.reportId(), a.volunteerId()));
+        return pairs;
+    }
+
+    private static Volunteer volunteer(long id, double lat, double lng, Vtype vtype) {
+        Volunteer v = new Volunteer();
+        v.setId(id);
+        v.setLatitude(lat);
+        v.setLongitude(lng);
+        v.setAvailability(true);
+        v.setVtype(vtype);
+        return v;
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/*
+ * The chord-based kernel must agree with the haversine in DistanceUtil.
+ */
+class DistanceKernelTest {
+
+    private final DistanceUtil haversine = new DistanceUtil();
+
+    @Test
+    void metersMatchHaversine() {
+        SplittableRandom rnd = new SplittableRandom(1);
+        for (int i = 0; i < 1000; i++) {
+            double lat = rnd.nextDouble(-80, 80);
+            double lng = rnd.nextDouble(-180, 180);
+            double lat2 = lat + rnd.nextDouble(-1, 1);
+            double lng2 = lng + rnd.nextDouble(-1, 1);
+
+            double[] u = DistanceKernel.unit(lat2, lng2);
+            double meters = new DistanceKernel(lat, lng, 0).metersTo(u[0], u[1], u[2]);
+            assertEquals(haversine.calculate(lat, lng, lat2, lng2) * 1000, meters, 0.01);
+        }
+    }
+
+    @Test
+    void filterKeepsExactlyThePointsInsideTheRadius() {
+        SplittableRandom rnd = new SplittableRandom(2);
+        int n = 500;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        double[] zs = new double[n];
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        for (int i = 0; i < n; i++) {
+            lats[i] = 18.52 + rnd.nextDouble(-0.1, 0.1);
+            lngs[i] = 73.85 + rnd.nextDouble(-0.1, 0.1);
+            double[] u = DistanceKernel.unit(lats[i], lngs[i]);
+            xs[i] = u[0];
+            ys[i] = u[1];
+            zs[i] = u[2];
+        }
+
+        DistanceKernel kernel = new DistanceKernel(18.52, 73.85, 5000);
+        int[] hits = new int[n];
+        int count = kernel.filter(xs, ys, zs, n, hits);
+
+        boolean[] hit = new boolean[n];
+        for (int i = 0; i < count; i++) {
+            hit[hits[i]] = true;
+        }
+        for (int i = 0; i < n; i++) {
+            double km = haversine.calculate(18.52, 73.85, lats[i], lngs[i]);
+            if (Math.abs(km - 5.0) > 1e-6) {
+                assertEquals(km <= 5.0, hit[i], "point " + i + " at " + km + " km");
+            }
+        }
+    }
+
+    @Test
+    void radiusBoundary() {
+        DistanceKernel kernel = new DistanceKernel(0, 0, 1000);
+        // 1 km along the equator is 1000 / R radians of longitude
+        double deg = Math.toDegrees(1000 / DistanceKernel.EARTH_RADIUS_M);
+        double[] inside = DistanceKernel.unit(0, deg * 0.999);
+        double[] outside = DistanceKernel.unit(0, deg * 1.001);
+
+        assertTrue(kernel.within(inside[0], inside[1], inside[2]));
+        assertFalse(kernel.within(outside[0], outside[1], outside[2]));
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.dto.HotSpotDTO;
+import com.project.entities.Category;
+import com.project.entities.Report;
+import com.project.entities.Status;
+import com.project.repository.ReportRepository;
+
+class HotSpotIndexTest {
+
+    // the classic geohash example point, "u4pruydqqvj"
+    private static final double LAT = 57.64911;
+    private static final double LNG = 10.40744;
+    private static final BoundingBox AROUND = new BoundingBox(57.6, 57.7, 10.3, 10.5);
+
+    private ReportRepository repo;
+    private HotSpotIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(ReportRepository.class);
+        when(repo.findPointsAfter(anyLong(), any())).thenReturn(List.of(
+                point(1L, Category.ROADS, Status.CREATED),
+                point(2L, Category.ROADS, Status.ASSIGNED),
+                point(3L, Category.SANITATION, Status.CREATED)));
+        index = new HotSpotIndex(repo);
+        index.rebuild();
+    }
+
+    @Test
+    void cellsAreGeohashes() {
+        assertEquals("u4pru", index.query(5, AROUND, null, null).get(0).getGeohash());
+        assertEquals("u4pruyd", index.query(7, AROUND, null, null).get(0).getGeohash());
+        assertEquals("u", index.query(1, AROUND, null, null).get(0).getGeohash());
+    }
+
+    @Test
+    void breaksDownAndFilters() {
+        HotSpotDTO all = index.query(5, AROUND, null, null).get(0);
+        assertEquals(3, all.getCount());
+        assertEquals(Map.of(Category.ROADS, 2, Category.SANITATION, 1), all.getByCategory());
+        assertEquals(Map.of(Status.CREATED, 2, Status.ASSIGNED, 1), all.getByStatus());
+
+        assertEquals(2, index.query(5, AROUND, Status.CREATED, null).get(0).getCount());
+        assertEquals(1, index.query(5, AROUND, Status.CREATED, Category.ROADS).get(0).getCount());
+        assertEquals(List.of(), index.query(5, new BoundingBox(0, 1, 0, 1), null, null));
+    }
+
+    @Test
+    void writesMoveCounters() {
+        Report r = report(4L, Category.ROADS, Status.CREATED);
+        index.added(r);
+        index.moved(r, Status.CREATED, Status.ASSIGNED);
+
+        HotSpotDTO cell = index.query(6, AROUND, null, Category.ROADS).get(0);
+        assertEquals(Map.of(Status.CREATED, 1, Status.ASSIGNED, 2), cell.getByStatus());
+    }
+
+    @Test
+    void changesDuringRebuildAreNeitherLostNorCountedTwice() {
+        Report one = report(1L, Category.ROADS, Status.CREATED);
+        Report two = report(2L, Category.ROADS, Status.ASSIGNED);
+        Report four = report(4L, Category.ROADS, Status.CREATED);
+        when(repo.findPointsAfter(anyLong(), any())).thenAnswer(call -> {
+            // committed before the load read them: already in the page
+            index.moved(two, Status.CREATED, Status.ASSIGNED);
+            List<ReportRepository.ReportPoint> page = List.of(
+                    point(1L, Category.ROADS, Status.CREATED),
+                    point(2L, Category.ROADS, Status.ASSIGNED),
+                    point(3L, Category.SANITATION, Status.CREATED));
+            // committed after: missing from the page
+            index.moved(one, Status.CREATED, Status.COMPLETED);
+            index.added(four);
+            return page;
+        });
+        index.rebuild();
+
+        HotSpotDTO cell = index.query(7, AROUND, null, null).get(0);
+        assertEquals(4, cell.getCount());
+        assertEquals(Map.of(Status.CREATED, 2, Status.ASSIGNED, 1, Status.COMPLETED, 1), cell.getByStatus());
+    }
+
+    private static Report report(long id, Category category, Status status) {
+        Report r = new Report();
+        r.setId(id);
+        r.setLatitude(LAT);
+        r.setLongitude(LNG);
+        r.setCategory(category);
+        r.setStatus(status);
+        return r;
+    }
+
+    private static ReportRepository.ReportPoint point(long id, Category category, Status status) {
+        return new ReportRepository.ReportPoint() {
+            public Long getId() { return id; }
+            public Double getLatitude() { return LAT; }
+            public Double getLongitude() { return LNG; }
+            public Category getCategory() { return category; }
+            public Status getStatus() { return status; }
+        };
+    }
+}
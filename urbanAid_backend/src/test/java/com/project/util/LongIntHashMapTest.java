@@ -0,0 +1,41 @@
+package com.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/*
+ * Random put/remove against a HashMap, small key range so probe chains
+ * collide and backward-shift deletion gets exercised.
+ */
+class LongIntHashMapTest {
+
+    @Test
+    void behavesLikeHashMap() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        SplittableRandom rnd = new SplittableRandom(3);
+
+        for (int op = 0; op < 200_000; op++) {
+            long key = 1 + rnd.nextInt(2000);
+            if (rnd.nextInt(3) == 0) {
+                Integer old = expected.remove(key);
+                assertEquals(old == null ? -1 : old, map.remove(key, -1));
+            } else {
+                int value = rnd.nextInt();
+                expected.put(key, value);
+                map.put(key, value);
+            }
+            if (op % 1000 == 0) {
+                assertEquals(expected.size(), map.size());
+                for (long k = 1; k <= 2000; k++) {
+                    assertEquals(expected.getOrDefault(k, -1), map.get(k, -1));
+                }
+            }
+        }
+    }
+}
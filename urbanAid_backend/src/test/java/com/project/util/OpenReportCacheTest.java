@@ -0,0 +1,97 @@
+package com.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.dto.ReportDTO;
+import com.project.entities.Category;
+import com.project.entities.Report;
+import com.project.entities.Status;
+import com.project.repository.ReportRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OpenReportCacheTest {
+
+    private static final double LAT = 18.52;
+    private static final double LNG = 73.85;
+
+    private ReportRepository repo;
+    private OpenReportCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(ReportRepository.class);
+        when(repo.findInBox(any(), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.of(row(1L, LAT + 0.005, LNG), row(2L, LAT + 0.001, LNG), row(3L, LAT + 0.3, LNG)));
+        cache = new OpenReportCache(repo, new SimpleMeterRegistry(), 30, 1000);
+    }
+
+    @Test
+    void servesNearestFirstFromOneLoad() {
+        List<ReportDTO> first = cache.nearest(LAT, LNG, 2000, 10);
+        assertEquals(List.of(2L, 1L), ids(first));
+        assertTrue(first.get(0).getDistanceMeters() < first.get(1).getDistanceMeters());
+
+        assertEquals(List.of(2L), ids(cache.nearest(LAT, LNG, 2000, 1)));
+        verify(repo, times(1)).findInBox(any(), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void createdAndClaimedReportsPatchCachedCells() {
+        cache.nearest(LAT, LNG, 2000, 10);
+
+        cache.added(report(4L, LAT, LNG), dto(4L));
+        assertEquals(List.of(4L, 2L, 1L), ids(cache.nearest(LAT, LNG, 2000, 10)));
+
+        cache.removed(report(2L, LAT + 0.001, LNG));
+        assertEquals(List.of(4L, 1L), ids(cache.nearest(LAT, LNG, 2000, 10)));
+        verify(repo, times(1)).findInBox(any(), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    void resultsAreCopies() {
+        cache.nearest(LAT, LNG, 2000, 10).get(0).setDescription("changed");
+        assertEquals("report 2", cache.nearest(LAT, LNG, 2000, 10).get(0).getDescription());
+    }
+
+    private static List<Long> ids(List<ReportDTO> reports) {
+        return reports.stream().map(ReportDTO::getId).toList();
+    }
+
+    private static ReportDTO dto(long id) {
+        return new ReportDTO(id, "report " + id, "somewhere", "", Status.CREATED, Category.ROADS, 9L, null);
+    }
+
+    private static Report report(long id, double lat, double lng) {
+        Report r = new Report();
+        r.setId(id);
+        r.setLatitude(lat);
+        r.setLongitude(lng);
+        return r;
+    }
+
+    private static ReportRepository.LocatedReport row(long id, double lat, double lng) {
+        return new ReportRepository.LocatedReport() {
+            public Long getId() { return id; }
+            public String getDescription() { return "report " + id; }
+            public String getLocation() { return "somewhere"; }
+            public String getImagepath() { return ""; }
+            public Category getCategory() { return Category.ROADS; }
+            public Long getCitizenId() { return 9L; }
+            public Double getLatitude() { return lat; }
+            public Double getLongitude() { return lng; }
+        };
+    }
+}
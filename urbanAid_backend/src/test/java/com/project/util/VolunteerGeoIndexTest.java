@@ -0,0 +1,105 @@
+package com.project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.project.entities.Volunteer;
+import com.project.entities.Vtype;
+import com.project.repository.VolunteerRepository;
+
+class VolunteerGeoIndexTest {
+
+    private static final double LAT = 18.52;
+    private static final double LNG = 73.85;
+
+    private VolunteerRepository repo;
+    private VolunteerGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(VolunteerRepository.class);
+        when(repo.findLocationsAfter(anyLong(), any())).thenReturn(List.of());
+        index = new VolunteerGeoIndex(repo);
+        index.rebuild();
+    }
+
+    @Test
+    void upsertMovesVolunteerBetweenCells() {
+        index.upsert(volunteer(1L, LAT, LNG, true, Vtype.FIRST_AID));
+        index.upsert(volunteer(2L, LAT + 0.01, LNG, true, Vtype.FIRST_AID));
+        assertEquals(List.of(1L, 2L), sorted(index.findWithin(LAT, LNG, 5)));
+
+        // ~55 km north: leaves the search area
+        index.upsert(volunteer(1L, LAT + 0.5, LNG, true, Vtype.FIRST_AID));
+        assertEquals(List.of(2L), index.findWithin(LAT, LNG, 5));
+        assertEquals(List.of(1L), index.findWithin(LAT + 0.5, LNG, 5));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void availableSearchFiltersByAvailabilityAndType() {
+        index.upsert(volunteer(1L, LAT, LNG, true, Vtype.FIRST_AID));
+        index.upsert(volunteer(2L, LAT, LNG, false, Vtype.FIRST_AID));
+        index.upsert(volunteer(3L, LAT, LNG, true, Vtype.ANIMAL_RESCUE));
+
+        assertEquals(List.of(1L, 3L), sorted(index.findAvailableWithin(LAT, LNG, 5, null)));
+        assertEquals(List.of(1L), index.findAvailableWithin(LAT, LNG, 5, Vtype.FIRST_AID));
+        assertEquals(List.of(1L, 2L, 3L), sorted(index.findWithin(LAT, LNG, 5)));
+    }
+
+    @Test
+    void removeDropsVolunteer() {
+        index.upsert(volunteer(1L, LAT, LNG, true, Vtype.FIRST_AID));
+        index.upsert(volunteer(2L, LAT, LNG, true, Vtype.FIRST_AID));
+        index.remove(1L);
+
+        assertEquals(List.of(2L), index.findWithin(LAT, LNG, 5));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void writesDuringRebuildSurviveTheSwap() {
+        when(repo.findLocationsAfter(anyLong(), any())).thenAnswer(call -> {
+            List<VolunteerRepository.Location> page = List.of(location(1L), location(2L));
+            // committed after the load read its page
+            index.upsert(volunteer(3L, LAT, LNG, true, Vtype.FIRST_AID));
+            index.remove(1L);
+            return page;
+        });
+        index.rebuild();
+
+        assertEquals(List.of(2L, 3L), sorted(index.findWithin(LAT, LNG, 5)));
+    }
+
+    private static VolunteerRepository.Location location(long id) {
+        return new VolunteerRepository.Location() {
+            public Long getId() { return id; }
+            public Double getLatitude() { return LAT; }
+            public Double getLongitude() { return LNG; }
+            public Boolean getAvailability() { return true; }
+            public Vtype getVtype() { return Vtype.FIRST_AID; }
+        };
+    }
+
+    private static List<Long> sorted(List<Long> ids) {
+        return ids.stream().sorted().toList();
+    }
+
+    private static Volunteer volunteer(long id, double lat, double lng, boolean available, Vtype vtype) {
+        Volunteer v = new Volunteer();
+        v.setId(id);
+        v.setLatitude(lat);
+        v.setLongitude(lng);
+        v.setAvailability(available);
+        v.setVtype(vtype);
+        return v;
+    }
+}